@@ -0,0 +1,134 @@
+package com.showflix.api.schedule.application;
+
+import com.showflix.api.auth.domain.User;
+import com.showflix.api.schedule.domain.Schedule;
+import com.showflix.api.schedule.domain.ScheduleSummary;
+import com.showflix.api.schedule.domain.VoucherTip;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * 벤치마크용 합성 데이터 + 인메모리 가짜 저장소
+ * - 고정 시드로 생성하여 실행 간 동일한 입력 보장
+ * - 출근 비율 약 60%, 직원 중 2/3은 ACTOR, 1/3은 STAFF
+ */
+final class BenchmarkFixtures {
+
+    static final int YEAR = 2025;
+    static final int MONTH = 3;
+
+    private static final String[] HOURS = {"4", "5.5", "6", "7.5", "8", "10"};
+
+    private BenchmarkFixtures() {}
+
+    /**
+     * 저장소 Port의 가짜 구현 (메서드 이름 → 반환값 함수)
+     * 등록되지 않은 메서드 호출 시 UnsupportedOperationException
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T fake(Class<T> port, Map<String, Function<Object[], Object>> handlers) {
+        return (T) Proxy.newProxyInstance(port.getClassLoader(), new Class<?>[]{port}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "toString": return "Fake" + port.getSimpleName();
+                case "hashCode": return System.identityHashCode(proxy);
+                case "equals": return proxy == args[0];
+            }
+            Function<Object[], Object> handler = handlers.get(method.getName());
+            if (handler == null) {
+                throw new UnsupportedOperationException(port.getSimpleName() + "." + method.getName());
+            }
+            return handler.apply(args);
+        });
+    }
+
+    static List<User> users(int staff) {
+        List<User> users = new ArrayList<>(staff);
+        for (int i = 0; i < staff; i++) {
+            User u = new User();
+            u.setUserid(String.format("U%04d", i));
+            u.setUsername(String.format("직원%04d", i));
+            u.setAccountType(i % 3 == 2 ? "STAFF" : "ACTOR");
+            users.add(u);
+        }
+        return users;
+    }
+
+    static List<User> actors(List<User> users) {
+        return users.stream().filter(u -> "ACTOR".equals(u.getAccountType())).toList();
+    }
+
+    static List<String> monthDates() {
+        LocalDate first = LocalDate.of(YEAR, MONTH, 1);
+        List<String> dates = new ArrayList<>(first.lengthOfMonth());
+        for (int d = 0; d < first.lengthOfMonth(); d++) {
+            dates.add(first.plusDays(d).toString());
+        }
+        return dates;
+    }
+
+    static List<Schedule> schedules(List<User> users) {
+        Random random = new Random(42);
+        List<Schedule> list = new ArrayList<>();
+        long id = 1;
+        for (String date : monthDates()) {
+            for (User u : actors(users)) {
+                if (random.nextInt(10) < 6) {
+                    String remarks = random.nextInt(20) == 0 ? "특이사항" : null;
+                    list.add(new Schedule(id++, date, u.getUsername(),
+                            Double.parseDouble(HOURS[random.nextInt(HOURS.length)]), null, remarks));
+                }
+            }
+        }
+        return list;
+    }
+
+    static List<ScheduleSummary> summaries(List<User> users) {
+        Random random = new Random(42);
+        List<ScheduleSummary> list = new ArrayList<>();
+        for (String date : monthDates()) {
+            for (User u : users) {
+                if (random.nextInt(10) < 6) {
+                    ScheduleSummary s = new ScheduleSummary();
+                    s.setUserId(u.getUserid());
+                    s.setDate(date);
+                    s.setHours(HOURS[random.nextInt(HOURS.length)]);
+                    list.add(s);
+                }
+            }
+            if (random.nextInt(4) == 0) {
+                ScheduleSummary remarks = new ScheduleSummary();
+                remarks.setUserId(ScheduleSummaryService.REMARKS_STAFF);
+                remarks.setDate(date);
+                remarks.setHours("0");
+                remarks.setRemarks("스탭 특이사항");
+                list.add(remarks);
+            }
+        }
+        return list;
+    }
+
+    static List<VoucherTip> voucherTips(List<User> users) {
+        Random random = new Random(42);
+        List<VoucherTip> list = new ArrayList<>();
+        for (String date : monthDates()) {
+            for (User u : actors(users)) {
+                if (random.nextInt(10) < 6) {
+                    VoucherTip vt = new VoucherTip();
+                    vt.setDate(date);
+                    vt.setUserId(u.getUserid());
+                    vt.setUserName(u.getUsername());
+                    vt.setVoucher(random.nextInt(4));
+                    vt.setTip(random.nextInt(3) * 10000);
+                    list.add(vt);
+                }
+            }
+        }
+        return list;
+    }
+}
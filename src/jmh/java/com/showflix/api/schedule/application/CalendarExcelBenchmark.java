@@ -0,0 +1,71 @@
+package com.showflix.api.schedule.application;
+
+import com.showflix.api.common.excel.ExcelExportEngine;
+import com.showflix.api.schedule.domain.ScheduleRole;
+import com.showflix.api.schedule.domain.SelectedDate;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 월별 달력 Excel 생성 벤치마크
+ * - 한 달 전체 x 11개 역할 (+ 예비) 합성 데이터
+ * - 할당량 비교: ./gradlew jmh -Pjmh.includes=CalendarExcelBenchmark -Pjmh.profilers=gc
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class CalendarExcelBenchmark {
+
+    private static final int YEAR = 2025;
+    private static final int MONTH = 3;
+
+    /** 역할·일자별 배정 인원 */
+    @Param({"1", "3"})
+    public int personsPerRole;
+
+    private CalendarExcelService service;
+    private List<SelectedDate> data;
+
+    @Setup
+    public void setUp() {
+        service = new CalendarExcelService(new ExcelExportEngine(100, 2, Duration.ZERO));
+
+        int daysInMonth = LocalDate.of(YEAR, MONTH, 1).lengthOfMonth();
+        ScheduleRole[] roles = ScheduleRole.values();
+        data = new ArrayList<>();
+        int seq = 0;
+        for (int day = 1; day <= daysInMonth; day++) {
+            String date = LocalDate.of(YEAR, MONTH, day).toString();
+            for (ScheduleRole role : roles) {
+                for (int p = 0; p < personsPerRole; p++) {
+                    data.add(selected(date, seq++, role.name()));
+                }
+            }
+            // 역할 미지정 인원 ("예비" 행)
+            data.add(selected(date, seq++, null));
+        }
+    }
+
+    private static SelectedDate selected(String date, int seq, String role) {
+        SelectedDate sd = new SelectedDate();
+        sd.setDate(date);
+        sd.setUserId("user" + seq);
+        sd.setUserName("직원" + seq);
+        sd.setRole(role);
+        sd.setConfirmed(seq % 3 == 0 ? "N" : "Y");
+        sd.setAccountType("ACTOR");
+        return sd;
+    }
+
+    @Benchmark
+    public void writeMonthlyCalendar() throws IOException {
+        service.writeMonthlyCalendar(YEAR, MONTH, data, OutputStream.nullOutputStream());
+    }
+}
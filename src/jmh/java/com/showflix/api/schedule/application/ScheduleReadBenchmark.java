@@ -0,0 +1,82 @@
+package com.showflix.api.schedule.application;
+
+import com.showflix.api.auth.domain.User;
+import com.showflix.api.auth.domain.UserDirectory;
+import com.showflix.api.auth.domain.UserRepository;
+import com.showflix.api.common.MonthVersions;
+import com.showflix.api.schedule.application.command.ScheduleTableQueryCommand;
+import com.showflix.api.schedule.domain.Schedule;
+import com.showflix.api.schedule.domain.ScheduleRepository;
+import com.showflix.api.schedule.domain.ScheduleSummary;
+import com.showflix.api.schedule.domain.ScheduleSummaryRepository;
+import com.showflix.api.schedule.domain.SelectedDateRepository;
+import com.showflix.api.schedule.domain.VoucherTip;
+import com.showflix.api.schedule.domain.VoucherTipRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.showflix.api.schedule.application.BenchmarkFixtures.MONTH;
+import static com.showflix.api.schedule.application.BenchmarkFixtures.YEAR;
+
+/**
+ * 월별 조회 유스케이스 벤치마크 (DB 제외, 조립 비용만 측정)
+ * - 가짜 저장소는 미리 만든 리스트를 그대로 반환
+ * - 출근시간 요약은 캐시 크기 0으로 매 호출 조립 (캐시 미스 경로)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ScheduleReadBenchmark {
+
+    @Param({"50", "200", "500"})
+    public int staff;
+
+    private ScheduleService scheduleService;
+    private ScheduleSummaryService scheduleSummaryService;
+    private VoucherTipService voucherTipService;
+    private ScheduleTableQueryCommand tableQuery;
+
+    @Setup
+    public void setUp() {
+        List<User> users = BenchmarkFixtures.users(staff);
+        List<Schedule> schedules = BenchmarkFixtures.schedules(users);
+        List<ScheduleSummary> summaries = BenchmarkFixtures.summaries(users);
+        List<VoucherTip> voucherTips = BenchmarkFixtures.voucherTips(users);
+
+        UserDirectory directory = UserDirectory.of(users);
+        UserRepository userRepository = BenchmarkFixtures.fake(UserRepository.class, Map.of(
+                "directory", args -> directory));
+        ScheduleRepository scheduleRepository = BenchmarkFixtures.fake(ScheduleRepository.class, Map.of(
+                "findByDateRange", args -> schedules));
+        ScheduleSummaryRepository summaryRepository = BenchmarkFixtures.fake(ScheduleSummaryRepository.class, Map.of(
+                "findByMonth", args -> summaries));
+        VoucherTipRepository voucherTipRepository = BenchmarkFixtures.fake(VoucherTipRepository.class, Map.of(
+                "findByMonth", args -> voucherTips));
+
+        scheduleService = new ScheduleService(scheduleRepository, userRepository);
+        scheduleSummaryService = new ScheduleSummaryService(summaryRepository, userRepository,
+                new ScheduleSummaryMonthCache(0, Duration.ZERO), new MonthVersions());
+        voucherTipService = new VoucherTipService(BenchmarkFixtures.fake(SelectedDateRepository.class, Map.of()),
+                voucherTipRepository, userRepository, null, new MonthVersions());
+        tableQuery = new ScheduleTableQueryCommand(YEAR, MONTH);
+    }
+
+    @Benchmark
+    public ScheduleService.ScheduleTableResult scheduleTable() {
+        return scheduleService.getScheduleTable(tableQuery);
+    }
+
+    @Benchmark
+    public ScheduleSummaryService.MonthResult scheduleSummaryMonth() {
+        return scheduleSummaryService.getMonthData(YEAR, MONTH);
+    }
+
+    @Benchmark
+    public VoucherTipService.MonthResult voucherTipMonth() {
+        return voucherTipService.getMonthData(YEAR, MONTH);
+    }
+}
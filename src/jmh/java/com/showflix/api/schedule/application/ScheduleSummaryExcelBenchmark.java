@@ -0,0 +1,54 @@
+package com.showflix.api.schedule.application;
+
+import com.showflix.api.auth.domain.User;
+import com.showflix.api.auth.domain.UserDirectory;
+import com.showflix.api.auth.domain.UserRepository;
+import com.showflix.api.common.MonthVersions;
+import com.showflix.api.common.excel.ExcelExportEngine;
+import com.showflix.api.schedule.domain.ScheduleSummary;
+import com.showflix.api.schedule.domain.ScheduleSummaryRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.showflix.api.schedule.application.BenchmarkFixtures.MONTH;
+import static com.showflix.api.schedule.application.BenchmarkFixtures.YEAR;
+
+/**
+ * 출근시간 요약 Excel 생성 벤치마크
+ * - 월 데이터는 Setup에서 한 번 조립, 측정은 Excel 기록만
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ScheduleSummaryExcelBenchmark {
+
+    @Param({"50", "200", "500"})
+    public int staff;
+
+    private ScheduleSummaryExcelService service;
+    private ScheduleSummaryService.MonthResult monthResult;
+
+    @Setup
+    public void setUp() {
+        List<User> users = BenchmarkFixtures.users(staff);
+        List<ScheduleSummary> summaries = BenchmarkFixtures.summaries(users);
+        UserDirectory directory = UserDirectory.of(users);
+        ScheduleSummaryService summaryService = new ScheduleSummaryService(
+                BenchmarkFixtures.fake(ScheduleSummaryRepository.class, Map.of("findByMonth", args -> summaries)),
+                BenchmarkFixtures.fake(UserRepository.class, Map.of("directory", args -> directory)),
+                new ScheduleSummaryMonthCache(0, Duration.ZERO), new MonthVersions());
+        monthResult = summaryService.getMonthData(YEAR, MONTH);
+        service = new ScheduleSummaryExcelService(new ExcelExportEngine(100, 2, Duration.ZERO));
+    }
+
+    @Benchmark
+    public void write() throws IOException {
+        service.write(monthResult, OutputStream.nullOutputStream());
+    }
+}
@@ -0,0 +1,264 @@
+package com.showflix.api.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.showflix.api.ShowFlixApiApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 달력 API 부하 테스트 - 월간 스케줄 공개 직후 크루 전원이 동시에 달력을 여는 상황
+ * - MariaDB 컨테이너 기동 + 시드 → 앱 기동 (랜덤 포트) → 세션별 /auth/login
+ * - 크루 세션: 월 조회 반복, 일부 요청은 출근일 저장
+ * - 관리자 세션: 일일 현황 조회 + 통합 확정 반복, 일부 요청은 월별 달력 Excel 다운로드
+ * - 종료 후 엔드포인트별 p50/p99/처리량 출력
+ *
+ * 설정 (시스템 프로퍼티, gradle -P 로 전달):
+ *   loadtest.sessions=150     크루 세션 수
+ *   loadtest.admins=3         관리자 세션 수
+ *   loadtest.duration=60s     측정 시간
+ *   loadtest.think=500ms      요청 간 대기 (최대값, 0~think 랜덤)
+ *   loadtest.save-ratio=0.2   크루 요청 중 저장 비율
+ *   loadtest.export-ratio=0   관리자 요청 중 Excel 다운로드 비율 (내보내기가 크루 요청 지연에 주는 영향 측정)
+ *   loadtest.profiles=loadtest 앱 활성 프로필 (가상 스레드 비교: loadtest,vthreads + -PjavaVersion=21)
+ *   loadtest.month=2025-03    대상 월 (기본: 다음 달)
+ *   loadtest.image=mariadb:10.11
+ *   loadtest.app.*            앱 프로퍼티로 전달 (예: loadtest.app.spring.datasource.hikari.maximum-pool-size=20)
+ *
+ * 가상 스레드 비교 (Java 21 런타임 필요, 같은 조건으로 두 번 실행해 p50/p99 비교):
+ *   ./gradlew loadTest -PjavaVersion=21 -Ploadtest.export-ratio=0.3
+ *   ./gradlew loadTest -PjavaVersion=21 -Ploadtest.export-ratio=0.3 -Ploadtest.profiles=loadtest,vthreads
+ *   캐리어 스레드 고정(pinning) 확인: -Ploadtest.trace-pinned=true (-Djdk.tracePinnedThreads=short, Java 21~23)
+ */
+public class CalendarLoadTest {
+
+    private static final String MONTH = "GET /api/schedule/dates/month";
+    private static final String SAVE = "POST /api/schedule/dates/save";
+    private static final String CONFIRM_ALL = "POST /api/schedule/dates/confirm-all";
+    private static final String EXPORT = "GET /api/schedule/dates/export";
+    private static final String DAILY_STATUS = "GET /api/admin/daily-status";
+    private static final String LOGIN = "POST /auth/login";
+
+    private final HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final LatencyRecorder recorder = new LatencyRecorder();
+
+    private final String baseUrl;
+    private final LoadTestDatabase.Seed seed;
+    private final int year;
+    private final int month;
+    private final long thinkMillis;
+    private final double saveRatio;
+    private final double exportRatio;
+
+    CalendarLoadTest(String baseUrl, LoadTestDatabase.Seed seed, int year, int month,
+                     Duration think, double saveRatio, double exportRatio) {
+        this.baseUrl = baseUrl;
+        this.seed = seed;
+        this.year = year;
+        this.month = month;
+        this.thinkMillis = think.toMillis();
+        this.saveRatio = saveRatio;
+        this.exportRatio = exportRatio;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int sessions = Integer.getInteger("loadtest.sessions", 150);
+        int admins = Integer.getInteger("loadtest.admins", 3);
+        Duration duration = DurationStyle.detectAndParse(System.getProperty("loadtest.duration", "60s"));
+        Duration think = DurationStyle.detectAndParse(System.getProperty("loadtest.think", "500ms"));
+        double saveRatio = Double.parseDouble(System.getProperty("loadtest.save-ratio", "0.2"));
+        double exportRatio = Double.parseDouble(System.getProperty("loadtest.export-ratio", "0"));
+        LocalDate target = System.getProperty("loadtest.month") != null
+                ? LocalDate.parse(System.getProperty("loadtest.month") + "-01")
+                : LocalDate.now().plusMonths(1).withDayOfMonth(1);
+
+        try (LoadTestDatabase db = new LoadTestDatabase(System.getProperty("loadtest.image", "mariadb:10.11"))) {
+            LoadTestDatabase.Seed seed = db.seed(sessions, admins, target.getYear(), target.getMonthValue());
+
+            List<String> appArgs = new ArrayList<>(List.of(
+                    "--spring.profiles.active=" + System.getProperty("loadtest.profiles", "loadtest"),
+                    "--server.port=0",
+                    "--spring.datasource.url=" + db.jdbcUrl(),
+                    "--spring.datasource.username=" + db.username(),
+                    "--spring.datasource.password=" + db.password(),
+                    "--spring.datasource.driver-class-name=org.mariadb.jdbc.Driver"));
+            System.getProperties().stringPropertyNames().stream()
+                    .filter(k -> k.startsWith("loadtest.app."))
+                    .forEach(k -> appArgs.add("--" + k.substring("loadtest.app.".length()) + "=" + System.getProperty(k)));
+
+            try (ConfigurableApplicationContext app =
+                         SpringApplication.run(ShowFlixApiApplication.class, appArgs.toArray(String[]::new))) {
+                String port = app.getEnvironment().getProperty("local.server.port");
+                // spring.threads.virtual.enabled는 Java 21 미만에서 오류 없이 무시되므로 실제 적용 여부를 함께 출력
+                System.out.printf("Java %d, virtual threads %s%n", Runtime.version().feature(),
+                        Threading.VIRTUAL.isActive(app.getEnvironment()) ? "on" : "off");
+                CalendarLoadTest test = new CalendarLoadTest("http://localhost:" + port, seed,
+                        target.getYear(), target.getMonthValue(), think, saveRatio, exportRatio);
+                test.run(duration);
+            }
+        }
+    }
+
+    void run(Duration duration) throws Exception {
+        int total = seed.crewIds().size() + seed.adminIds().size();
+        ExecutorService pool = Executors.newFixedThreadPool(total);
+        CountDownLatch loggedIn = new CountDownLatch(total);
+        CountDownLatch start = new CountDownLatch(1);
+        long[] deadline = new long[1];
+
+        for (String userId : seed.crewIds()) {
+            pool.submit(() -> session(userId, false, loggedIn, start, deadline));
+        }
+        for (String userId : seed.adminIds()) {
+            pool.submit(() -> session(userId, true, loggedIn, start, deadline));
+        }
+
+        // 전원 로그인 후 동시에 출발 (공개 직후 몰림 재현)
+        loggedIn.await();
+        deadline[0] = System.nanoTime() + duration.toNanos();
+        System.out.printf("%d sessions logged in, running %s against %d-%02d%n", total, duration, year, month);
+        start.countDown();
+
+        pool.shutdown();
+        pool.awaitTermination(duration.toSeconds() + 60, TimeUnit.SECONDS);
+        recorder.report(System.out, System.nanoTime());
+    }
+
+    private void session(String userId, boolean admin, CountDownLatch loggedIn, CountDownLatch start,
+                         long[] deadline) {
+        String cookie;
+        try {
+            cookie = login(userId);
+        } finally {
+            loggedIn.countDown();
+        }
+        if (cookie == null) return;
+        try {
+            start.await();
+            while (System.nanoTime() < deadline[0]) {
+                if (admin) {
+                    adminStep(cookie);
+                } else {
+                    crewStep(cookie);
+                }
+                if (thinkMillis > 0) {
+                    Thread.sleep(ThreadLocalRandom.current().nextLong(thinkMillis + 1));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private String login(String userId) {
+        String form = "username=" + URLEncoder.encode(userId, StandardCharsets.UTF_8)
+                + "&password=" + URLEncoder.encode(LoadTestDatabase.PASSWORD, StandardCharsets.UTF_8);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/auth/login"))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(form))
+                .build();
+        HttpResponse<String> response = send(LOGIN, request);
+        if (response == null || response.statusCode() != 200) return null;
+        return response.headers().allValues("set-cookie").stream()
+                .filter(c -> c.startsWith("JSESSIONID="))
+                .map(c -> c.substring(0, c.indexOf(';') > 0 ? c.indexOf(';') : c.length()))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private void crewStep(String cookie) {
+        send(MONTH, get(cookie, "/api/schedule/dates/month?year=" + year + "&month=" + month));
+        if (ThreadLocalRandom.current().nextDouble() < saveRatio) {
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put(randomDate(), Map.of());
+            body.put(randomDate(), Map.of());
+            send(SAVE, post(cookie, "/api/schedule/dates/save", body));
+        }
+    }
+
+    private void adminStep(String cookie) {
+        String date = randomDate();
+        send(DAILY_STATUS, get(cookie, "/api/admin/daily-status?date=" + date));
+        if (ThreadLocalRandom.current().nextDouble() < exportRatio) {
+            send(EXPORT, get(cookie, "/api/schedule/dates/export?year=" + year + "&month=" + month),
+                    HttpResponse.BodyHandlers.discarding());
+        }
+
+        List<Map<String, Object>> roles = new ArrayList<>();
+        for (LoadTestDatabase.Assignment a : seed.assignments().get(date)) {
+            roles.add(Map.of("userId", a.userId(), "role", a.role(), "remarks", ""));
+        }
+        List<Map<String, Object>> slots = List.of(
+                Map.of("timeSlot", "17:00", "theme", "테마", "performer", ""),
+                Map.of("timeSlot", "19:00", "theme", "테마", "performer", ""),
+                Map.of("timeSlot", "21:00", "theme", "테마", "performer", ""));
+        send(CONFIRM_ALL, post(cookie, "/api/schedule/dates/confirm-all",
+                Map.of("date", date, "slots", slots, "roles", roles)));
+    }
+
+    private String randomDate() {
+        LocalDate first = LocalDate.of(year, month, 1);
+        return first.plusDays(ThreadLocalRandom.current().nextInt(first.lengthOfMonth())).toString();
+    }
+
+    private HttpRequest get(String cookie, String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Cookie", cookie)
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String cookie, String path, Object body) {
+        try {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .header("Cookie", cookie)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private HttpResponse<String> send(String endpoint, HttpRequest request) {
+        return send(endpoint, request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private <T> HttpResponse<T> send(String endpoint, HttpRequest request, HttpResponse.BodyHandler<T> handler) {
+        long started = System.nanoTime();
+        try {
+            HttpResponse<T> response = http.send(request, handler);
+            recorder.record(endpoint, started, System.nanoTime() - started, response.statusCode() / 100 == 2);
+            return response;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (Exception e) {
+            recorder.record(endpoint, started, System.nanoTime() - started, false);
+            return null;
+        }
+    }
+}
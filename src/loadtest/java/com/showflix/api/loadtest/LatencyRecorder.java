@@ -0,0 +1,68 @@
+package com.showflix.api.loadtest;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 엔드포인트별 응답시간 수집 + p50/p99/처리량 리포트
+ * - 응답시간은 나노초 원본을 모두 보관 (수 분 규모 실행 기준)
+ */
+class LatencyRecorder {
+
+    private final Map<String, Series> series = new ConcurrentSkipListMap<>();
+    private final Map<String, Long> firstAt = new ConcurrentHashMap<>();
+
+    void record(String endpoint, long startNanos, long elapsedNanos, boolean ok) {
+        firstAt.putIfAbsent(endpoint, startNanos);
+        series.computeIfAbsent(endpoint, k -> new Series()).add(elapsedNanos, ok);
+    }
+
+    void report(PrintStream out, long endNanos) {
+        out.printf("%-36s %8s %7s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "req/s", "p50(ms)", "p99(ms)", "max(ms)");
+        series.forEach((endpoint, s) -> {
+            long[] sorted = s.snapshot();
+            Arrays.sort(sorted);
+            double seconds = Math.max(1, endNanos - firstAt.get(endpoint)) / 1e9;
+            out.printf("%-36s %8d %7d %9.1f %9.1f %9.1f %9.1f%n",
+                    endpoint, sorted.length, s.errors(), sorted.length / seconds,
+                    millis(percentile(sorted, 0.50)), millis(percentile(sorted, 0.99)),
+                    millis(sorted.length == 0 ? 0 : sorted[sorted.length - 1]));
+        });
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) return 0;
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+
+    private static final class Series {
+        private long[] values = new long[1024];
+        private int size;
+        private int errors;
+
+        synchronized void add(long nanos, boolean ok) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = nanos;
+            if (!ok) errors++;
+        }
+
+        synchronized long[] snapshot() {
+            return Arrays.copyOf(values, size);
+        }
+
+        synchronized int errors() {
+            return errors;
+        }
+    }
+}
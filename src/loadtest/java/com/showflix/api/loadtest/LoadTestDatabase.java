@@ -0,0 +1,154 @@
+package com.showflix.api.loadtest;
+
+import com.showflix.api.schedule.domain.ScheduleRole;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.EncodedResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 부하 테스트용 MariaDB 컨테이너 + 스키마/시드 데이터
+ * - 스키마는 운영과 동일한 db/*.sql 스크립트로 생성
+ * - 크루 계정: ACTOR 2/3, STAFF 1/3 / 관리자 계정: admin01..
+ * - 크루 1명당 해당 월 약 12일 출근 신청, 약 30% 확정 상태
+ */
+class LoadTestDatabase implements AutoCloseable {
+
+    static final String PASSWORD = "loadtest1234";
+
+    private static final String[] SCRIPTS = {"db/sf_create_tables.sql", "db/create_sf_user_action_log.sql"};
+    private static final String[] TIME_SLOTS = {"17:00", "19:00", "21:00"};
+
+    /** 시드 결과: 로그인 계정 + 날짜별 출근자 (confirm-all 요청 구성용) */
+    record Seed(List<String> crewIds, List<String> adminIds, Map<String, List<Assignment>> assignments) {}
+
+    record Assignment(String userId, String role) {}
+
+    private final MariaDBContainer<?> container;
+
+    LoadTestDatabase(String image) {
+        container = new MariaDBContainer<>(DockerImageName.parse(image))
+                .withDatabaseName("showflix")
+                .withCommand("--character-set-server=utf8mb4", "--collation-server=utf8mb4_unicode_ci");
+        container.start();
+    }
+
+    String jdbcUrl() {
+        return container.getJdbcUrl();
+    }
+
+    String username() {
+        return container.getUsername();
+    }
+
+    String password() {
+        return container.getPassword();
+    }
+
+    Seed seed(int crew, int admins, int year, int month) throws SQLException {
+        try (Connection conn = DriverManager.getConnection(jdbcUrl(), username(), password())) {
+            for (String script : SCRIPTS) {
+                ScriptUtils.executeSqlScript(conn,
+                        new EncodedResource(new ClassPathResource(script), StandardCharsets.UTF_8));
+            }
+            conn.setAutoCommit(false);
+            Random random = new Random(42);
+            String encoded = new BCryptPasswordEncoder().encode(PASSWORD);
+            ScheduleRole[] roles = ScheduleRole.values();
+
+            List<String> crewIds = new ArrayList<>(crew);
+            List<String> adminIds = new ArrayList<>(admins);
+            List<Assignment> crewRoles = new ArrayList<>(crew);
+            Map<String, String> crewNames = new LinkedHashMap<>();
+            try (PreparedStatement ps = conn.prepareStatement(
+                    "INSERT INTO sf_users (userid, username, password, account_type, role, is_admin) "
+                            + "VALUES (?, ?, ?, ?, ?, ?)")) {
+                for (int i = 1; i <= crew; i++) {
+                    boolean actor = i % 3 != 0;
+                    String userId = String.format(actor ? "actor%03d" : "staff%03d", i);
+                    String role = roles[random.nextInt(roles.length)].name();
+                    addUser(ps, userId, "크루" + i, encoded, actor ? "ACTOR" : "STAFF", role, false);
+                    crewIds.add(userId);
+                    crewRoles.add(new Assignment(userId, role));
+                    crewNames.put(userId, "크루" + i);
+                }
+                for (int i = 1; i <= admins; i++) {
+                    String userId = String.format("admin%02d", i);
+                    addUser(ps, userId, "관리자" + i, encoded, "ADMIN", null, true);
+                    adminIds.add(userId);
+                }
+                ps.executeBatch();
+            }
+
+            LocalDate first = LocalDate.of(year, month, 1);
+            Map<String, List<Assignment>> assignments = new LinkedHashMap<>();
+            try (PreparedStatement ps = conn.prepareStatement(
+                    "INSERT INTO sf_selected_date (date, user_id, user_name, open_hope, role, confirmed) "
+                            + "VALUES (?, ?, ?, 0, ?, ?)")) {
+                for (int d = 0; d < first.lengthOfMonth(); d++) {
+                    String date = first.plusDays(d).toString();
+                    List<Assignment> dayList = new ArrayList<>();
+                    for (Assignment a : crewRoles) {
+                        if (random.nextInt(5) < 2) {
+                            ps.setString(1, date);
+                            ps.setString(2, a.userId());
+                            ps.setString(3, crewNames.get(a.userId()));
+                            ps.setString(4, a.role());
+                            ps.setString(5, random.nextInt(10) < 3 ? "Y" : "N");
+                            ps.addBatch();
+                            dayList.add(a);
+                        }
+                    }
+                    assignments.put(date, dayList);
+                }
+                ps.executeBatch();
+            }
+
+            try (PreparedStatement ps = conn.prepareStatement(
+                    "INSERT INTO sf_time_slot (schedule_date, time_slot, theme, performer) VALUES (?, ?, ?, ?)")) {
+                for (String date : assignments.keySet()) {
+                    for (String slot : TIME_SLOTS) {
+                        ps.setString(1, date);
+                        ps.setString(2, slot);
+                        ps.setString(3, "테마");
+                        ps.setString(4, "");
+                        ps.addBatch();
+                    }
+                }
+                ps.executeBatch();
+            }
+            conn.commit();
+            return new Seed(crewIds, adminIds, assignments);
+        }
+    }
+
+    private static void addUser(PreparedStatement ps, String userId, String userName, String password,
+                                String accountType, String role, boolean admin) throws SQLException {
+        ps.setString(1, userId);
+        ps.setString(2, userName);
+        ps.setString(3, password);
+        ps.setString(4, accountType);
+        ps.setString(5, role);
+        ps.setBoolean(6, admin);
+        ps.addBatch();
+    }
+
+    @Override
+    public void close() {
+        container.stop();
+    }
+}
@@ -2,6 +2,7 @@ package com.showflix.api;
 
 import com.showflix.api.auth.infrastructure.security.CustomLoginFailureHandler;
 import com.showflix.api.auth.infrastructure.security.CustomLoginSuccessHandler;
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpStatus;
@@ -33,8 +34,10 @@ public class SecurityConfig {
         http
                 .csrf(csrf -> csrf.disable())
                 .authorizeHttpRequests(auth -> auth
+                        // SSE 등 비동기 응답의 재디스패치 (최초 요청에서 이미 인가됨)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         // 공개 경로 (index.html은 로그인 페이지로 공개)
-                        .requestMatchers("/", "/index.html", "/login", "/css/**", "/js/**", "/images/**").permitAll()
+                        .requestMatchers("/", "/index.html", "/login", "/css/**", "/js/**", "/images/**", "/assets/**").permitAll()
                         .requestMatchers("/auth/login").permitAll()
                         // .html 직접 접근 차단 (index.html 제외 - 위에서 permitAll로 먼저 매칭됨)
                         .requestMatchers("/**/*.html").denyAll()
@@ -44,7 +47,9 @@ public class SecurityConfig {
                         .requestMatchers("/api/schedule/**").authenticated()
                         // 관리자 전용 경로
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")
+                        .requestMatchers("/api/exports/**").hasRole("ADMIN")
                         .requestMatchers("/admin/**").hasRole("ADMIN")
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .anyRequest().authenticated()
                 )
                 .exceptionHandling(ex -> ex
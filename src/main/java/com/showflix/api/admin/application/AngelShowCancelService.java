@@ -5,6 +5,7 @@ import com.showflix.api.admin.domain.AngelShowCancelRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -21,7 +22,8 @@ public class AngelShowCancelService {
 
     @Transactional(readOnly = true)
     public List<AngelShowCancel> getByMonth(int year, int month) {
-        return repository.findByYearAndMonth(year, month);
+        LocalDate start = LocalDate.of(year, month, 1);
+        return repository.findByDateRange(start.toString(), start.plusMonths(1).toString());
     }
 
     @Transactional
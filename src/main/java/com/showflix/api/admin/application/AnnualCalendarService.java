@@ -5,6 +5,7 @@ import com.showflix.api.admin.mapper.AnnualCalendarMapper;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Service
@@ -18,6 +19,7 @@ public class AnnualCalendarService {
 
     @Transactional(readOnly = true)
     public List<AnnualCalendarEntry> getByYear(int year) {
-        return mapper.findByYear(year);
+        LocalDate start = LocalDate.of(year, 1, 1);
+        return mapper.findByDateRange(start.toString(), start.plusYears(1).toString());
     }
 }
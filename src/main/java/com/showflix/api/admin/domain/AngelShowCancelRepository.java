@@ -8,7 +8,8 @@ import java.util.Optional;
  */
 public interface AngelShowCancelRepository {
 
-    List<AngelShowCancel> findByYearAndMonth(int year, int month);
+    // 반열림 구간 [start, end) 조회 (YYYY-MM-DD)
+    List<AngelShowCancel> findByDateRange(String start, String end);
 
     Optional<AngelShowCancel> findById(Long id);
 
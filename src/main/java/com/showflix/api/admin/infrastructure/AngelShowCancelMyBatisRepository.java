@@ -21,8 +21,8 @@ public class AngelShowCancelMyBatisRepository implements AngelShowCancelReposito
     }
 
     @Override
-    public List<AngelShowCancel> findByYearAndMonth(int year, int month) {
-        return mapper.findByYearAndMonth(year, month);
+    public List<AngelShowCancel> findByDateRange(String start, String end) {
+        return mapper.findByDateRange(start, end);
     }
 
     @Override
@@ -12,7 +12,7 @@ import java.util.List;
 @Mapper
 public interface AngelShowCancelMapper {
 
-    List<AngelShowCancel> findByYearAndMonth(@Param("year") int year, @Param("month") int month);
+    List<AngelShowCancel> findByDateRange(@Param("start") String start, @Param("end") String end);
 
     AngelShowCancel findById(@Param("id") Long id);
 
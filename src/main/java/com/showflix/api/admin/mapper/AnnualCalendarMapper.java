@@ -9,5 +9,5 @@ import java.util.List;
 @Mapper
 public interface AnnualCalendarMapper {
 
-    List<AnnualCalendarEntry> findByYear(@Param("year") int year);
+    List<AnnualCalendarEntry> findByDateRange(@Param("start") String start, @Param("end") String end);
 }
@@ -2,7 +2,12 @@ package com.showflix.api.auth.application;
 
 import com.showflix.api.auth.domain.AccountType;
 import com.showflix.api.auth.domain.User;
+import com.showflix.api.auth.domain.UserDirectory;
 import com.showflix.api.auth.domain.UserRepository;
+import com.showflix.api.auth.infrastructure.security.PrincipalVersionRegistry;
+import com.showflix.api.common.AfterCommit;
+import com.showflix.api.common.MonthVersions;
+import com.showflix.api.schedule.application.ScheduleSummaryMonthCache;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,10 +26,18 @@ public class AdminUserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final MonthVersions monthVersions;
+    private final PrincipalVersionRegistry principalVersions;
+    private final ScheduleSummaryMonthCache summaryMonthCache;
 
-    public AdminUserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public AdminUserService(UserRepository userRepository, PasswordEncoder passwordEncoder,
+                            MonthVersions monthVersions, PrincipalVersionRegistry principalVersions,
+                            ScheduleSummaryMonthCache summaryMonthCache) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.monthVersions = monthVersions;
+        this.principalVersions = principalVersions;
+        this.summaryMonthCache = summaryMonthCache;
     }
 
     @Transactional(readOnly = true)
@@ -36,6 +49,11 @@ public class AdminUserService {
         return userRepository.findAllSorted(validSortBy, validSortDir);
     }
 
+    /** 전체 사용자 목록 (스냅샷, username 오름차순) - 최근 역할이 필요 없는 화면용 */
+    public List<UserDirectory.Entry> getDirectoryUsers() {
+        return userRepository.directory().all();
+    }
+
     /**
      * 신규 계정 생성
      * - 비밀번호: "showflix" 고정
@@ -70,6 +88,7 @@ public class AdminUserService {
         user.setRole((role == null || role.isBlank()) ? null : role);
 
         userRepository.save(user);
+        rosterChanged();
     }
 
     /**
@@ -150,6 +169,9 @@ public class AdminUserService {
         user.setRole((role == null || role.isBlank()) ? null : role);
 
         userRepository.update(user);
+        rosterChanged();
+        // 로그인 중인 해당 사용자 세션 스냅샷 갱신
+        principalVersions.bump(userid);
     }
 
     @Transactional
@@ -162,6 +184,7 @@ public class AdminUserService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다: " + userid));
 
         userRepository.updatePassword(userid, passwordEncoder.encode(rawPassword));
+        principalVersions.bump(userid);
     }
 
     @Transactional
@@ -174,6 +197,18 @@ public class AdminUserService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다: " + userid));
 
         userRepository.delete(userid);
+        rosterChanged();
+        principalVersions.bump(userid);
+    }
+
+    /**
+     * 월 조회 결과의 사용자 목록/이름 변경 → 전체 월 ETag + 출근시간 월별 캐시 무효화
+     * - 캐시는 즉시 + 커밋 후 무효화 (커밋 전 재로딩된 이전 목록이 새 ETag로 응답되지 않도록)
+     */
+    private void rosterChanged() {
+        monthVersions.touchAll();
+        summaryMonthCache.invalidateAll();
+        AfterCommit.run(summaryMonthCache::invalidateAll);
     }
 
     private String getPrefixByAccountType(String accountType) {
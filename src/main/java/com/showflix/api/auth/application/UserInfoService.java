@@ -4,6 +4,7 @@ import com.showflix.api.auth.application.command.ChangeMyPasswordCommand;
 import com.showflix.api.auth.domain.User;
 import com.showflix.api.auth.domain.UserRepository;
 import com.showflix.api.auth.infrastructure.security.CustomUserDetails;
+import com.showflix.api.auth.infrastructure.security.PrincipalVersionRegistry;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -20,13 +21,16 @@ public class UserInfoService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PrincipalVersionRegistry principalVersions;
 
-    public UserInfoService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserInfoService(UserRepository userRepository, PasswordEncoder passwordEncoder,
+                           PrincipalVersionRegistry principalVersions) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.principalVersions = principalVersions;
     }
 
-    @Transactional(readOnly = true)
+    // 트랜잭션 없음: 스냅샷 적중 시 커넥션을 빌리지 않도록 함 (갱신 시 조회는 UserDirectory 캐시)
     public Optional<UserInfoResult> getCurrentUserInfo() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
@@ -35,17 +39,24 @@ public class UserInfoService {
             return Optional.empty();
         }
 
-        // CustomUserDetails에서 userid 추출
+        // 세션 스냅샷 사용 - 관리자가 해당 사용자 정보를 변경한 경우(버전 증가)에만 다시 조회
         if (authentication.getPrincipal() instanceof CustomUserDetails) {
             CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
             String userid = userDetails.getUserId();
 
-            return userRepository.findByUserid(userid)
-                    .map(user -> new UserInfoResult(
-                            user.getUserid(),
-                            user.getUsername(),
-                            user.isAdmin()
-                    ));
+            long version = principalVersions.current(userid);
+            CustomUserDetails.Snapshot snapshot = userDetails.getSnapshot();
+            if (snapshot.version() != version) {
+                snapshot = userRepository.directory().find(userid)
+                        .map(user -> new CustomUserDetails.Snapshot(
+                                user.userid(), user.username(), user.admin(), version))
+                        .orElse(null);
+                if (snapshot == null) {
+                    return Optional.empty(); // 삭제된 계정
+                }
+                userDetails.refreshSnapshot(snapshot);
+            }
+            return Optional.of(new UserInfoResult(snapshot.userid(), snapshot.username(), snapshot.admin()));
         }
 
         return Optional.empty();
@@ -0,0 +1,87 @@
+package com.showflix.api.auth.domain;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Domain Layer - 사용자 목록 스냅샷 (불변)
+ * - 요청마다 조회되는 화면(월별 그리드, 스케줄 테이블, 내 정보)용 — 비밀번호/최근 역할 미포함
+ * - 계정유형별로 미리 분리, 모든 목록은 username 오름차순
+ */
+public final class UserDirectory {
+
+    /** 스냅샷 항목 */
+    public record Entry(String userid, String username, boolean admin, String accountType, String role) {}
+
+    private static final Comparator<Entry> BY_USERNAME =
+            Comparator.comparing(Entry::username, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final List<Entry> all;
+    private final List<Entry> nonAdmins;
+    private final Map<AccountType, List<Entry>> byAccountType;
+    private final Map<String, Entry> byUserid;
+
+    private UserDirectory(List<Entry> all, List<Entry> nonAdmins, Map<AccountType, List<Entry>> byAccountType,
+                          Map<String, Entry> byUserid) {
+        this.all = all;
+        this.nonAdmins = nonAdmins;
+        this.byAccountType = byAccountType;
+        this.byUserid = byUserid;
+    }
+
+    public static UserDirectory of(List<User> users) {
+        List<Entry> sorted = new ArrayList<>(users.size());
+        for (User u : users) {
+            sorted.add(new Entry(u.getUserid(), u.getUsername(), u.isAdmin(), u.getAccountType(), u.getRole()));
+        }
+        sorted.sort(BY_USERNAME);
+
+        List<Entry> nonAdmins = new ArrayList<>();
+        Map<AccountType, List<Entry>> byAccountType = new EnumMap<>(AccountType.class);
+        Map<String, Entry> byUserid = new HashMap<>(sorted.size() * 2);
+        for (Entry e : sorted) {
+            if (!e.admin()) nonAdmins.add(e);
+            AccountType type = parseAccountType(e.accountType());
+            if (type != null) byAccountType.computeIfAbsent(type, k -> new ArrayList<>()).add(e);
+            byUserid.put(e.userid(), e);
+        }
+        byAccountType.replaceAll((k, v) -> List.copyOf(v));
+
+        return new UserDirectory(List.copyOf(sorted), List.copyOf(nonAdmins),
+                Collections.unmodifiableMap(byAccountType), Collections.unmodifiableMap(byUserid));
+    }
+
+    /** 전체 사용자 */
+    public List<Entry> all() {
+        return all;
+    }
+
+    /** 비관리자 사용자 (UserRepository.findActors와 같은 기준) */
+    public List<Entry> nonAdmins() {
+        return nonAdmins;
+    }
+
+    public List<Entry> byAccountType(AccountType accountType) {
+        return byAccountType.getOrDefault(accountType, List.of());
+    }
+
+    public Optional<Entry> find(String userid) {
+        return Optional.ofNullable(byUserid.get(userid));
+    }
+
+    // 알 수 없는 계정유형 값은 유형별 목록에서만 제외 (전체 목록에는 포함)
+    private static AccountType parseAccountType(String accountType) {
+        if (accountType == null) return null;
+        try {
+            return AccountType.valueOf(accountType);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.showflix.api.auth.domain;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,6 +14,9 @@ public interface UserRepository {
     // 배우(비관리자) 목록 조회 - Schedule 도메인에서 스케줄 테이블 열 구성에 사용
     List<User> findActors();
 
+    // 사용자 목록 스냅샷 (메모리 보관, 계정 추가/수정/삭제 시 무효화)
+    UserDirectory directory();
+
     // ── 관리자 계정관리용 ──────────────────────────────────────
     List<User> findAll();
 
@@ -23,6 +27,12 @@ public interface UserRepository {
     // 계정유형별 마지막 userid 조회 (다음 번호 자동생성용)
     Optional<String> findLastUseridByAccountType(String accountType);
 
+    // 최근 역할(recentRole) 투영 갱신 - sf_selected_date 역할 변경과 같은 트랜잭션에서 호출
+    void refreshLatestRoles(Collection<String> userids);
+
+    // 전체 사용자 최근 역할 재계산 (야간 보정), 갱신 대상 행 수 반환
+    int refreshAllLatestRoles();
+
     void save(User user);
 
     void update(User user);
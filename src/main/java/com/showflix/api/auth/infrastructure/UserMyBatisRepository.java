@@ -1,21 +1,31 @@
 package com.showflix.api.auth.infrastructure;
 
 import com.showflix.api.auth.domain.User;
+import com.showflix.api.auth.domain.UserDirectory;
 import com.showflix.api.auth.domain.UserRepository;
 import com.showflix.api.auth.mapper.UserMapper;
+import com.showflix.api.common.AfterCommit;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * Infrastructure Layer - UserRepository 구현체 (MyBatis)
+ * - directory(): sf_users 스냅샷을 메모리에 보관 (사용자 목록은 월 몇 회만 변경)
+ * - save/update/delete 시 즉시 + 커밋 후 무효화 (커밋 전 재로딩된 이전 스냅샷이 남지 않도록)
  */
 @Repository
 public class UserMyBatisRepository implements UserRepository {
 
     private final UserMapper userMapper;
 
+    private final Object directoryLock = new Object();
+    private volatile UserDirectory directory;
+    // 무효화 시 증가 — 무효화 이전에 시작된 로딩 결과가 저장되지 않도록 함
+    private long directoryGeneration;
+
     public UserMyBatisRepository(UserMapper userMapper) {
         this.userMapper = userMapper;
     }
@@ -30,6 +40,22 @@ public class UserMyBatisRepository implements UserRepository {
         return userMapper.findActors();
     }
 
+    @Override
+    public UserDirectory directory() {
+        UserDirectory current = directory;
+        if (current != null) return current;
+
+        long generation;
+        synchronized (directoryLock) {
+            generation = directoryGeneration;
+        }
+        UserDirectory loaded = UserDirectory.of(userMapper.findAllForDirectory());
+        synchronized (directoryLock) {
+            if (generation == directoryGeneration) directory = loaded;
+        }
+        return loaded;
+    }
+
     @Override
     public List<User> findAll() {
         return userMapper.findAll();
@@ -45,14 +71,27 @@ public class UserMyBatisRepository implements UserRepository {
         return Optional.ofNullable(userMapper.findLastUseridByAccountType(accountType));
     }
 
+    @Override
+    public void refreshLatestRoles(Collection<String> userids) {
+        if (userids.isEmpty()) return;
+        userMapper.refreshLatestRoles(userids);
+    }
+
+    @Override
+    public int refreshAllLatestRoles() {
+        return userMapper.refreshAllLatestRoles();
+    }
+
     @Override
     public void save(User user) {
         userMapper.save(user);
+        invalidateDirectory();
     }
 
     @Override
     public void update(User user) {
         userMapper.update(user);
+        invalidateDirectory();
     }
 
     @Override
@@ -63,6 +102,18 @@ public class UserMyBatisRepository implements UserRepository {
     @Override
     public void delete(String userid) {
         userMapper.delete(userid);
+        invalidateDirectory();
     }
-}
 
+    private void invalidateDirectory() {
+        clearDirectory();
+        AfterCommit.run(this::clearDirectory);
+    }
+
+    private void clearDirectory() {
+        synchronized (directoryLock) {
+            directoryGeneration++;
+            directory = null;
+        }
+    }
+}
@@ -10,19 +10,34 @@ import java.util.List;
 
 /**
  * Infrastructure Layer - Spring Security UserDetails 구현
+ * - 세션에 보관되므로 화면 표시용 사용자 정보 스냅샷을 함께 보관 (/api/user/info)
  */
 public class CustomUserDetails implements UserDetails {
 
+    /** 사용자 정보 스냅샷 (version: PrincipalVersionRegistry 기준 발급 시점 버전) */
+    public record Snapshot(String userid, String username, boolean admin, long version) {}
+
     private final User user;
+    private volatile Snapshot snapshot;
 
-    public CustomUserDetails(User user) {
+    public CustomUserDetails(User user, long version) {
         this.user = user;
+        this.snapshot = new Snapshot(user.getUserid(), user.getUsername(), user.isAdmin(), version);
     }
 
     public User getUser() {
         return user;
     }
 
+    public Snapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /** 버전 변경 후 다시 조회한 정보로 스냅샷 교체 */
+    public void refreshSnapshot(Snapshot snapshot) {
+        this.snapshot = snapshot;
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         // 관리자 권한 설정
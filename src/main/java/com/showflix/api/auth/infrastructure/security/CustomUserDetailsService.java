@@ -14,16 +14,20 @@ import org.springframework.stereotype.Service;
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final PrincipalVersionRegistry principalVersions;
 
-    public CustomUserDetailsService(UserRepository userRepository) {
+    public CustomUserDetailsService(UserRepository userRepository, PrincipalVersionRegistry principalVersions) {
         this.userRepository = userRepository;
+        this.principalVersions = principalVersions;
     }
 
     @Override
     public UserDetails loadUserByUsername(String userid) throws UsernameNotFoundException {
+        // 조회 전 버전을 먼저 읽음 (조회 중 변경되면 다음 /api/user/info에서 갱신)
+        long version = principalVersions.current(userid);
         User user = userRepository.findByUserid(userid)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + userid));
-        
-        return new CustomUserDetails(user);
+
+        return new CustomUserDetails(user, version);
     }
 }
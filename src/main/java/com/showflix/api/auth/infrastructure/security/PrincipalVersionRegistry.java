@@ -0,0 +1,33 @@
+package com.showflix.api.auth.infrastructure.security;
+
+import com.showflix.api.common.AfterCommit;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Infrastructure Layer - 사용자별 로그인 정보 버전 (프로세스 내)
+ * - 세션의 CustomUserDetails 스냅샷은 발급 시점 버전을 보관, 버전이 같으면 DB/캐시 조회 없이 사용
+ * - 관리자가 계정 정보/비밀번호를 변경하면 해당 사용자 버전 증가 → 다음 조회 시 스냅샷 갱신
+ * - 변경 시점 + 커밋 이후 두 번 증가: 커밋 전 갱신된 스냅샷이 최신 버전으로 남지 않도록 함
+ */
+@Component
+public class PrincipalVersionRegistry {
+
+    private final ConcurrentHashMap<String, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    public long current(String userid) {
+        AtomicLong version = versions.get(userid);
+        return version != null ? version.get() : 0;
+    }
+
+    public void bump(String userid) {
+        increment(userid);
+        AfterCommit.run(() -> increment(userid));
+    }
+
+    private void increment(String userid) {
+        versions.computeIfAbsent(userid, k -> new AtomicLong()).incrementAndGet();
+    }
+}
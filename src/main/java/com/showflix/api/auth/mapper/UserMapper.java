@@ -4,6 +4,7 @@ import com.showflix.api.auth.domain.User;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -16,6 +17,9 @@ public interface UserMapper {
 
     List<User> findActors();
 
+    // 사용자 목록 스냅샷 로딩용 (비밀번호/최근 역할 제외)
+    List<User> findAllForDirectory();
+
     // ── 관리자 계정관리용 ──────────────────────────────────────
     List<User> findAll();
 
@@ -24,6 +28,11 @@ public interface UserMapper {
     // 계정유형별 마지막 userid 조회 (다음 번호 자동생성용)
     String findLastUseridByAccountType(@Param("accountType") String accountType);
 
+    // 최근 역할(latest_role) 투영 갱신
+    int refreshLatestRoles(@Param("userids") Collection<String> userids);
+
+    int refreshAllLatestRoles();
+
     void save(User user);
 
     void update(User user);
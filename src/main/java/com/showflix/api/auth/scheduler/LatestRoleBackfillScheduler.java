@@ -0,0 +1,33 @@
+package com.showflix.api.auth.scheduler;
+
+import com.showflix.api.auth.domain.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * sf_users.latest_role 야간 보정
+ * - 역할 변경 경로에서 같은 트랜잭션으로 갱신하지만, 수동 SQL 수정/누락 경로를 매일 한 번 재계산
+ * - 사용자별 최신 행 1건 탐색이므로 출근일 이력 전체 크기와 무관
+ */
+@Component
+public class LatestRoleBackfillScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(LatestRoleBackfillScheduler.class);
+
+    private final UserRepository userRepository;
+
+    public LatestRoleBackfillScheduler(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    /** 매일 새벽 3시 30분 (행동 로그 정리 이후) */
+    @Scheduled(cron = "0 30 3 * * *")
+    public void backfill() {
+        long startedAt = System.nanoTime();
+        int rows = userRepository.refreshAllLatestRoles();
+        log.info("[LatestRole Backfill] 사용자 {}명 최근 역할 재계산 ({}ms)",
+                rows, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+}
@@ -0,0 +1,71 @@
+package com.showflix.api.common;
+
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 월 단위 데이터 버전 (프로세스 내) - 월 조회 API의 ETag 생성용
+ * - 쓰기 경로에서 해당 월 버전 증가, 조회 API는 버전이 같으면 DB 조회 없이 304 응답
+ * - 쓰기 시점 + 커밋 이후 두 번 증가: 커밋 전 조회 결과가 최신 버전 ETag로 남지 않도록 함
+ * - 기동 시각(epoch)을 ETag에 포함하여 재기동 후 이전 ETag와 충돌하지 않도록 함
+ * - 단일 인스턴스 기준 (다중 인스턴스 배포 시 공유 저장소 필요)
+ */
+@Component
+public class MonthVersions {
+
+    public enum Scope {
+        CALENDAR("cal"),
+        SCHEDULE_SUMMARY("sum"),
+        VOUCHER_TIP("vt");
+
+        private final String tag;
+
+        Scope(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    private record Key(Scope scope, YearMonth month) {}
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong global = new AtomicLong();
+    private final ConcurrentHashMap<Key, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    /**
+     * 약한 ETag 생성 (W/"...")
+     * @param variant 사용자별로 응답이 다른 경우 구분값 (없으면 빈 문자열)
+     */
+    public String etag(Scope scope, YearMonth month, String variant) {
+        AtomicLong version = versions.get(new Key(scope, month));
+        return "W/\"" + scope.tag + "-" + month + "-" + epoch + "." + global.get() + "."
+                + (version != null ? version.get() : 0) + (variant.isEmpty() ? "" : "-" + variant) + "\"";
+    }
+
+    /** 날짜(YYYY-MM-DD)가 속한 월 버전 증가 */
+    public void touch(Scope scope, String date) {
+        YearMonth month;
+        try {
+            month = YearMonth.parse(date.substring(0, 7));
+        } catch (RuntimeException e) {
+            // 월을 판단할 수 없으면 전체 버전 증가
+            touchAll();
+            return;
+        }
+        Key key = new Key(scope, month);
+        bump(key);
+        AfterCommit.run(() -> bump(key));
+    }
+
+    /** 전체 월 버전 증가 (사용자 목록 변경 등 모든 월에 영향을 주는 쓰기) */
+    public void touchAll() {
+        global.incrementAndGet();
+        AfterCommit.run(global::incrementAndGet);
+    }
+
+    private void bump(Key key) {
+        versions.computeIfAbsent(key, k -> new AtomicLong()).incrementAndGet();
+    }
+}
@@ -0,0 +1,37 @@
+package com.showflix.api.common;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * vthreads 프로필 적용 여부 확인
+ * - spring.threads.virtual.enabled는 Java 21 미만에서 오류 없이 무시되므로 기동 시 실제 적용 여부를 로그로 남김
+ */
+@Component
+@Profile("vthreads")
+public class VirtualThreadsCheck {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadsCheck.class);
+
+    private final Environment environment;
+
+    public VirtualThreadsCheck(Environment environment) {
+        this.environment = environment;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void report() {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            log.info("[VirtualThreads] 요청/비동기/스케줄 작업을 가상 스레드로 실행");
+        } else {
+            log.warn("[VirtualThreads] vthreads 프로필이지만 Java {} 런타임이라 플랫폼 스레드 풀로 실행 (Java 21 이상 필요)",
+                    Runtime.version().feature());
+        }
+    }
+}
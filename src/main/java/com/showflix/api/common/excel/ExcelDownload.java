@@ -0,0 +1,28 @@
+package com.showflix.api.common.excel;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Excel 다운로드 응답 생성 (컨트롤러 공용)
+ */
+public final class ExcelDownload {
+
+    private static final MediaType XLSX = MediaType.parseMediaType(
+            "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+
+    private ExcelDownload() {}
+
+    public static ResponseEntity<StreamingResponseBody> of(String filename, StreamingResponseBody body) {
+        String encodedFilename = URLEncoder.encode(filename, StandardCharsets.UTF_8).replace("+", "%20");
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename*=UTF-8''" + encodedFilename)
+                .contentType(XLSX)
+                .body(body);
+    }
+}
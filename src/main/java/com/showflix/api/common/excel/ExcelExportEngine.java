@@ -0,0 +1,90 @@
+package com.showflix.api.common.excel;
+
+import jakarta.annotation.PreDestroy;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.Supplier;
+
+/**
+ * 스트리밍 Excel 생성 엔진 (SXSSF)
+ * - 메모리에는 최근 rowWindow개 행만 유지, 나머지는 임시 파일(압축)로 내려씀
+ * - 완성된 워크북을 byte[]로 복사하지 않고 전달된 OutputStream(응답 스트림)에 바로 기록
+ * - 직전 행으로 돌아가 수정할 수 없으므로 ExcelSheetWriter는 행을 순서대로 생성해야 함
+ * - 시트가 여러 개인 경우 시트별 모델은 prepareAll로 병렬 준비, 직렬화는 순차
+ */
+@Component
+public class ExcelExportEngine {
+
+    private final int rowWindow;
+    private final ThreadPoolTaskExecutor modelExecutor;
+
+    public ExcelExportEngine(@Value("${showflix.excel.row-window:100}") int rowWindow,
+                             @Value("${showflix.excel.model-threads:4}") int modelThreads,
+                             @Value("${showflix.executor.await-termination:30s}") Duration awaitTermination) {
+        this.rowWindow = rowWindow;
+        // 고정 크기 + 유한 큐, 포화 시 호출 스레드에서 실행 (요청이 몰려도 스레드/큐가 늘지 않음)
+        this.modelExecutor = new ThreadPoolTaskExecutor();
+        modelExecutor.setCorePoolSize(modelThreads);
+        modelExecutor.setMaxPoolSize(modelThreads);
+        modelExecutor.setQueueCapacity(64);
+        modelExecutor.setAllowCoreThreadTimeOut(true);
+        modelExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        modelExecutor.setThreadNamePrefix("excel-model-");
+        modelExecutor.setDaemon(true);
+        modelExecutor.setWaitForTasksToCompleteOnShutdown(true);
+        modelExecutor.setAwaitTerminationMillis(awaitTermination.toMillis());
+        modelExecutor.initialize();
+    }
+
+    public void write(OutputStream out, ExcelSheetWriter writer) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(rowWindow);
+        workbook.setCompressTempFiles(true);
+        try {
+            writer.write(workbook, new ExcelStyles(workbook));
+            workbook.write(out);
+        } finally {
+            // 임시 파일 삭제
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    /**
+     * 시트 모델 병렬 준비 — 결과는 입력 순서 유지
+     * 모델 준비는 순수 계산만 할 것 (DB 조회/보안 컨텍스트 사용 X)
+     */
+    public <T> List<T> prepareAll(List<Supplier<T>> tasks) {
+        List<CompletableFuture<T>> futures = new ArrayList<>(tasks.size());
+        for (Supplier<T> task : tasks) {
+            futures.add(CompletableFuture.supplyAsync(task, modelExecutor));
+        }
+        List<T> results = new ArrayList<>(tasks.size());
+        try {
+            for (CompletableFuture<T> future : futures) {
+                results.add(future.join());
+            }
+        } catch (CompletionException e) {
+            futures.forEach(f -> f.cancel(false));
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw e;
+        }
+        return results;
+    }
+
+    /** 준비 중인 시트 모델은 await-termination까지 마저 처리 */
+    @PreDestroy
+    void shutdown() {
+        modelExecutor.shutdown();
+    }
+}
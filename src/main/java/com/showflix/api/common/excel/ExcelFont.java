@@ -0,0 +1,26 @@
+package com.showflix.api.common.excel;
+
+import org.apache.poi.ss.usermodel.IndexedColors;
+
+/**
+ * Excel 공통 글꼴 팔레트
+ * - 워크북마다 ExcelStyles가 필요한 글꼴만 1회 생성
+ */
+public enum ExcelFont {
+    TITLE_WHITE(true, IndexedColors.WHITE, 13),
+    BOLD(true, null, 10),
+    BOLD_LARGE(true, null, 12),
+    BOLD_RED(true, IndexedColors.RED, 10),
+    BOLD_BLUE(true, IndexedColors.BLUE, 10),
+    NORMAL(false, null, 10);
+
+    final boolean bold;
+    final IndexedColors color;
+    final short heightInPoints;
+
+    ExcelFont(boolean bold, IndexedColors color, int heightInPoints) {
+        this.bold = bold;
+        this.color = color;
+        this.heightInPoints = (short) heightInPoints;
+    }
+}
@@ -0,0 +1,12 @@
+package com.showflix.api.common.excel;
+
+import org.apache.poi.ss.usermodel.Workbook;
+
+/**
+ * 워크북에 시트를 채우는 콜백 (행은 위에서 아래로 순서대로만 생성할 것)
+ */
+@FunctionalInterface
+public interface ExcelSheetWriter {
+
+    void write(Workbook workbook, ExcelStyles styles);
+}
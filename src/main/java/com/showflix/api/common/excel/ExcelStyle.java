@@ -0,0 +1,47 @@
+package com.showflix.api.common.excel;
+
+import org.apache.poi.ss.usermodel.HorizontalAlignment;
+import org.apache.poi.ss.usermodel.IndexedColors;
+
+/**
+ * Excel 공통 셀 스타일 팔레트 (모든 Excel 생성 서비스 공용)
+ * - 모든 스타일은 세로 가운데 정렬 + 얇은 테두리
+ * - 동일한 모양은 하나의 상수로 통합해 워크북당 스타일 수 최소화
+ */
+public enum ExcelStyle {
+
+    // ── 공통 ─────────────────────────────────────────────
+    TITLE(ExcelFont.TITLE_WHITE, HorizontalAlignment.CENTER, IndexedColors.VIOLET, false),
+    TITLE_GREY(ExcelFont.TITLE_WHITE, HorizontalAlignment.CENTER, IndexedColors.GREY_50_PERCENT, false),
+    COL_HEADER(ExcelFont.BOLD, HorizontalAlignment.CENTER, IndexedColors.GREY_25_PERCENT, false),
+    TOTAL(ExcelFont.BOLD, HorizontalAlignment.CENTER, IndexedColors.LEMON_CHIFFON, false),
+    DATE(ExcelFont.BOLD, HorizontalAlignment.LEFT, null, false),
+    DATE_SUN(ExcelFont.BOLD_RED, HorizontalAlignment.LEFT, IndexedColors.ROSE, false),
+    DATE_SAT(ExcelFont.BOLD_BLUE, HorizontalAlignment.LEFT, IndexedColors.LIGHT_BLUE, false),
+    DATA(ExcelFont.NORMAL, HorizontalAlignment.CENTER, null, false),
+    EMPTY(ExcelFont.NORMAL, HorizontalAlignment.CENTER, IndexedColors.GREY_25_PERCENT, false),
+    REMARKS(ExcelFont.NORMAL, HorizontalAlignment.LEFT, null, false),
+    TEXT_WRAP(ExcelFont.NORMAL, null, null, true),
+
+    // ── 달력 ─────────────────────────────────────────────
+    CAL_HEADER(ExcelFont.BOLD_LARGE, HorizontalAlignment.CENTER, IndexedColors.GREY_25_PERCENT, false),
+    CAL_SUN_HEADER(ExcelFont.BOLD_LARGE, HorizontalAlignment.CENTER, IndexedColors.ROSE, false),
+    CAL_SAT_HEADER(ExcelFont.BOLD_LARGE, HorizontalAlignment.CENTER, IndexedColors.LIGHT_BLUE, false),
+    CAL_ROLE_LABEL(ExcelFont.BOLD_LARGE, HorizontalAlignment.CENTER, IndexedColors.LEMON_CHIFFON, false),
+    CAL_CONFIRMED(ExcelFont.NORMAL, HorizontalAlignment.CENTER, IndexedColors.LIGHT_GREEN, true),
+    CAL_UNCONFIRMED(ExcelFont.NORMAL, HorizontalAlignment.CENTER, IndexedColors.YELLOW, true),
+    CAL_MIXED(ExcelFont.NORMAL, HorizontalAlignment.CENTER, IndexedColors.LIGHT_YELLOW, true),
+    CAL_PADDING(null, null, IndexedColors.GREY_25_PERCENT, false);
+
+    final ExcelFont font;
+    final HorizontalAlignment alignment;
+    final IndexedColors fill;
+    final boolean wrap;
+
+    ExcelStyle(ExcelFont font, HorizontalAlignment alignment, IndexedColors fill, boolean wrap) {
+        this.font = font;
+        this.alignment = alignment;
+        this.fill = fill;
+        this.wrap = wrap;
+    }
+}
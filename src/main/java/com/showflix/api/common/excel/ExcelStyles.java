@@ -0,0 +1,64 @@
+package com.showflix.api.common.excel;
+
+import org.apache.poi.ss.usermodel.BorderStyle;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.FillPatternType;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.VerticalAlignment;
+import org.apache.poi.ss.usermodel.Workbook;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 워크북 단위 스타일 캐시
+ * - CellStyle/Font는 워크북에 종속되므로 워크북마다 1개 생성
+ * - 처음 사용하는 스타일만 생성하고 이후 재사용 (시트가 여러 개여도 공유)
+ */
+public class ExcelStyles {
+
+    private final Workbook workbook;
+    private final Map<ExcelStyle, CellStyle> styles = new EnumMap<>(ExcelStyle.class);
+    private final Map<ExcelFont, Font> fonts = new EnumMap<>(ExcelFont.class);
+
+    ExcelStyles(Workbook workbook) {
+        this.workbook = workbook;
+    }
+
+    public CellStyle get(ExcelStyle style) {
+        return styles.computeIfAbsent(style, this::create);
+    }
+
+    private CellStyle create(ExcelStyle spec) {
+        CellStyle style = workbook.createCellStyle();
+        if (spec.font != null) {
+            style.setFont(fonts.computeIfAbsent(spec.font, this::createFont));
+        }
+        if (spec.alignment != null) {
+            style.setAlignment(spec.alignment);
+        }
+        if (spec.font != null) {
+            style.setVerticalAlignment(VerticalAlignment.CENTER);
+        }
+        if (spec.fill != null) {
+            style.setFillForegroundColor(spec.fill.getIndex());
+            style.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+        }
+        style.setWrapText(spec.wrap);
+        style.setBorderTop(BorderStyle.THIN);
+        style.setBorderBottom(BorderStyle.THIN);
+        style.setBorderLeft(BorderStyle.THIN);
+        style.setBorderRight(BorderStyle.THIN);
+        return style;
+    }
+
+    private Font createFont(ExcelFont spec) {
+        Font font = workbook.createFont();
+        font.setBold(spec.bold);
+        if (spec.color != null) {
+            font.setColor(spec.color.getIndex());
+        }
+        font.setFontHeightInPoints(spec.heightInPoints);
+        return font;
+    }
+}
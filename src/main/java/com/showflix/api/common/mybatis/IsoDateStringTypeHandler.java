@@ -0,0 +1,56 @@
+package com.showflix.api.common.mybatis;
+
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.MappedJdbcTypes;
+import org.apache.ibatis.type.MappedTypes;
+
+import java.sql.CallableStatement;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+/**
+ * MyBatis TypeHandler - DATE 컬럼 ↔ String(YYYY-MM-DD)
+ * - 날짜 컬럼을 DATE로 전환한 뒤에도 도메인 클래스는 기존처럼 String 날짜 사용
+ * - 조회: 드라이버/타임존과 무관하게 항상 ISO 형식(YYYY-MM-DD)으로 변환
+ * - 저장: #{date,jdbcType=DATE} 로 지정 시 잘못된 형식은 DB 오류 대신 IllegalArgumentException
+ */
+@MappedTypes(String.class)
+@MappedJdbcTypes(JdbcType.DATE)
+public class IsoDateStringTypeHandler extends BaseTypeHandler<String> {
+
+    @Override
+    public void setNonNullParameter(PreparedStatement ps, int i, String parameter, JdbcType jdbcType)
+            throws SQLException {
+        LocalDate date;
+        try {
+            date = LocalDate.parse(parameter.trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("날짜 형식이 올바르지 않습니다 (YYYY-MM-DD): " + parameter);
+        }
+        ps.setDate(i, Date.valueOf(date));
+    }
+
+    @Override
+    public String getNullableResult(ResultSet rs, String columnName) throws SQLException {
+        return toIso(rs.getObject(columnName, LocalDate.class));
+    }
+
+    @Override
+    public String getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+        return toIso(rs.getObject(columnIndex, LocalDate.class));
+    }
+
+    @Override
+    public String getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+        return toIso(cs.getObject(columnIndex, LocalDate.class));
+    }
+
+    private static String toIso(LocalDate date) {
+        return date == null ? null : date.toString();
+    }
+}
@@ -0,0 +1,40 @@
+package com.showflix.api.common.web;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+import java.io.IOException;
+
+/**
+ * 컬럼형(compact) JSON 응답 본문 기반 클래스 (?format=compact)
+ * - Jackson이 응답 스트림의 JsonGenerator로 write를 직접 호출 → 중간 DTO/Map 없이 조회 결과에서 바로 기록
+ * - 반복되는 날짜/사용자 ID는 앞쪽 배열에 한 번만 쓰고 값은 인덱스 순서의 밀집 배열로 기록
+ */
+public abstract class CompactJson implements JsonSerializable {
+
+    public static final String FORMAT = "compact";
+
+    public static boolean requested(String format) {
+        return FORMAT.equalsIgnoreCase(format);
+    }
+
+    /** ETag 형식 구분값 (compact면 FORMAT, 기본 JSON이면 빈 문자열) */
+    public static String variant(String format) {
+        return requested(format) ? FORMAT : "";
+    }
+
+    protected abstract void write(JsonGenerator gen) throws IOException;
+
+    @Override
+    public final void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        write(gen);
+    }
+
+    @Override
+    public final void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer)
+            throws IOException {
+        write(gen);
+    }
+}
@@ -0,0 +1,57 @@
+package com.showflix.api.common.web;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 정적 HTML 페이지 (기동 시 1회 로딩, 메모리 보관)
+ * - 내용 해시 ETag + no-cache: 브라우저는 매번 재검증하고 변경이 없으면 304 (본문 전송 없음)
+ * - HTML이 참조하는 js/css는 해시 경로이므로 HTML만 재검증하면 배포 직후에도 새 자산을 받음
+ */
+public final class StaticHtmlPage {
+
+    private static final MediaType TEXT_HTML_UTF8 = new MediaType(MediaType.TEXT_HTML, StandardCharsets.UTF_8);
+
+    private final byte[] body;
+    private final String etag;
+
+    private StaticHtmlPage(byte[] body, String etag) {
+        this.body = body;
+        this.etag = etag;
+    }
+
+    /** @param location classpath 경로 (예: static/schedule/calendar.html) */
+    public static StaticHtmlPage load(String location) {
+        try (InputStream in = new ClassPathResource(location).getInputStream()) {
+            byte[] body = in.readAllBytes();
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return new StaticHtmlPage(body, "\"" + HexFormat.of().formatHex(digest, 0, 8) + "\"");
+        } catch (IOException e) {
+            throw new UncheckedIOException("정적 HTML을 읽을 수 없습니다: " + location, e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** If-None-Match가 일치하면 null 반환 (304는 checkNotModified가 설정) */
+    public ResponseEntity<byte[]> respond(WebRequest webRequest) {
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .contentType(TEXT_HTML_UTF8)
+                .cacheControl(CacheControl.noCache())
+                .body(body);
+    }
+}
@@ -0,0 +1,29 @@
+package com.showflix.api.common.web;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 정적 리소스 핸들러
+ * - /assets/** : 빌드 단계(processAssets)에서 만든 내용 해시 파일명 사본
+ *   내용이 바뀌면 경로가 바뀌므로 1년 immutable 캐시
+ *   .br/.gz 사전 압축본이 있으면 Accept-Encoding에 따라 그대로 전송 (요청마다 압축하지 않음)
+ * - 그 외 정적 경로(/css, /js, /images, index.html)는 Boot 기본 핸들러 + spring.web.resources.* 설정 (재검증)
+ */
+@Configuration
+public class StaticResourceConfig implements WebMvcConfigurer {
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        registry.addResourceHandler("/assets/**")
+                .addResourceLocations("classpath:/static/assets/")
+                .setCacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable())
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver());
+    }
+}
@@ -0,0 +1,283 @@
+package com.showflix.api.export.application;
+
+import com.showflix.api.export.domain.ExportJob;
+import com.showflix.api.export.domain.ExportType;
+import com.showflix.api.export.infrastructure.ExportFileStore;
+import com.showflix.api.schedule.application.CalendarExcelService;
+import com.showflix.api.schedule.application.ScheduleSummaryExcelService;
+import com.showflix.api.schedule.application.ScheduleSummaryService;
+import com.showflix.api.schedule.application.SelectedDateService;
+import com.showflix.api.schedule.application.VoucherTipService;
+import com.showflix.api.schedule.application.WorkDiaryExcelService;
+import com.showflix.api.schedule.application.WorkDiaryService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Application Layer - Excel 내보내기 작업 (POST 접수 → 폴링 → 다운로드)
+ * - 요청 스레드는 작업 등록만 하고 즉시 반환, 생성은 전용 고정 크기 실행기에서 수행
+ * - 대기열은 우선순위 순 (월 단위 작업 먼저, 같은 우선순위는 접수 순), 포화 시 접수 거절
+ * - 사용자별 대기/실행 중 작업 수 제한 (한 관리자가 실행기를 독점하지 않도록)
+ * - 결과는 로컬 파일로 보관, 완료 후 ttl이 지나면 작업/파일 함께 삭제 (evictExpired)
+ * - 작업 스레드에는 보안 컨텍스트가 없으므로 권한 필터 없는 조회만 사용 (접수는 관리자 전용)
+ */
+@Service
+public class ExportJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(ExportJobService.class);
+    private static final Comparator<Task> TASK_ORDER = Comparator
+            .comparingInt((Task t) -> t.job.priority())
+            .thenComparingLong(t -> t.seq);
+
+    private final SelectedDateService selectedDateService;
+    private final ScheduleSummaryService scheduleSummaryService;
+    private final VoucherTipService voucherTipService;
+    private final WorkDiaryService workDiaryService;
+    private final CalendarExcelService calendarExcelService;
+    private final ScheduleSummaryExcelService scheduleSummaryExcelService;
+    private final WorkDiaryExcelService workDiaryExcelService;
+    private final ExportFileStore fileStore;
+
+    private final ConcurrentHashMap<String, ExportJob> jobs = new ConcurrentHashMap<>();
+    private final ThreadPoolTaskExecutor executor;
+    private final AtomicLong sequence = new AtomicLong();
+    private final int queueCapacity;
+    private final int perUserLimit;
+    private final Duration ttl;
+
+    private final Counter completed;
+    private final Counter failed;
+    private final Counter rejected;
+    private final Timer waitTimer;
+    private final Timer runTimer;
+
+    public ExportJobService(SelectedDateService selectedDateService,
+                            ScheduleSummaryService scheduleSummaryService,
+                            VoucherTipService voucherTipService,
+                            WorkDiaryService workDiaryService,
+                            CalendarExcelService calendarExcelService,
+                            ScheduleSummaryExcelService scheduleSummaryExcelService,
+                            WorkDiaryExcelService workDiaryExcelService,
+                            ExportFileStore fileStore,
+                            MeterRegistry meterRegistry,
+                            @Value("${showflix.export.threads:2}") int threads,
+                            @Value("${showflix.export.queue-capacity:20}") int queueCapacity,
+                            @Value("${showflix.export.per-user-limit:3}") int perUserLimit,
+                            @Value("${showflix.export.ttl:30m}") Duration ttl,
+                            @Value("${showflix.executor.await-termination:30s}") Duration awaitTermination) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("showflix.export.threads는 1 이상이어야 합니다.");
+        }
+        this.selectedDateService = selectedDateService;
+        this.scheduleSummaryService = scheduleSummaryService;
+        this.voucherTipService = voucherTipService;
+        this.workDiaryService = workDiaryService;
+        this.calendarExcelService = calendarExcelService;
+        this.scheduleSummaryExcelService = scheduleSummaryExcelService;
+        this.workDiaryExcelService = workDiaryExcelService;
+        this.fileStore = fileStore;
+        this.queueCapacity = queueCapacity;
+        this.perUserLimit = perUserLimit;
+        this.ttl = ttl;
+
+        // 고정 크기 + 우선순위 큐 (PriorityBlockingQueue는 무한이므로 용량은 submit에서 검사)
+        this.executor = new ThreadPoolTaskExecutor() {
+            @Override
+            protected BlockingQueue<Runnable> createQueue(int queueCapacity) {
+                return new PriorityBlockingQueue<>();
+            }
+        };
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setThreadNamePrefix("excel-export-");
+        executor.setDaemon(true);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationMillis(awaitTermination.toMillis());
+        executor.initialize();
+
+        Gauge.builder("showflix.export.queue.depth", executor, ThreadPoolTaskExecutor::getQueueSize)
+                .description("실행 대기 중인 내보내기 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("showflix.export.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("실행 중인 내보내기 작업 수")
+                .register(meterRegistry);
+        this.completed = Counter.builder("showflix.export.completed")
+                .description("완료된 내보내기 작업 수")
+                .register(meterRegistry);
+        this.failed = Counter.builder("showflix.export.failed")
+                .description("실패한 내보내기 작업 수")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("showflix.export.rejected")
+                .description("대기열 포화/사용자 한도로 거절된 접수 수")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("showflix.export.wait")
+                .description("접수부터 실행 시작까지 대기 시간")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("showflix.export.duration")
+                .description("Excel 생성 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 작업 접수
+     * @param month null이면 연간 범위 (출근시간만 지원)
+     * @throws IllegalArgumentException 종류/범위가 잘못된 경우
+     * @throws ExportRejectedException 대기열 포화 또는 사용자별 한도 초과
+     */
+    public ExportJob submit(String type, int year, Integer month, String requestedBy) {
+        ExportType exportType = ExportType.from(type);
+        if (year < 2000 || year > 2100) {
+            throw new IllegalArgumentException("연도가 올바르지 않습니다: " + year);
+        }
+        if (month == null && !exportType.supportsYearly()) {
+            throw new IllegalArgumentException("월을 지정해야 합니다.");
+        }
+        if (month != null && (month < 1 || month > 12)) {
+            throw new IllegalArgumentException("월이 올바르지 않습니다: " + month);
+        }
+
+        ExportJob job = new ExportJob(UUID.randomUUID().toString(), exportType, year, month, requestedBy);
+        // 용량/한도 검사와 등록을 원자적으로 (동시 접수로 한도를 넘지 않도록)
+        synchronized (this) {
+            if (executor.getQueueSize() >= queueCapacity) {
+                rejected.increment();
+                throw new ExportRejectedException("내보내기 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.");
+            }
+            long inFlight = jobs.values().stream()
+                    .filter(j -> !j.getStatus().isFinished() && j.getRequestedBy().equals(requestedBy))
+                    .count();
+            if (inFlight >= perUserLimit) {
+                rejected.increment();
+                throw new ExportRejectedException("진행 중인 내보내기가 너무 많습니다. (최대 " + perUserLimit + "건)");
+            }
+            jobs.put(job.getId(), job);
+            executor.execute(new Task(job, sequence.incrementAndGet()));
+        }
+        return job;
+    }
+
+    public Optional<ExportJob> find(String id) {
+        return Optional.ofNullable(jobs.get(id));
+    }
+
+    /**
+     * 완료된 작업의 결과 파일 경로
+     */
+    public Path file(ExportJob job) {
+        return fileStore.path(job.getId());
+    }
+
+    /**
+     * 완료 후 ttl이 지난 작업과 파일 삭제
+     * @return 삭제한 작업 수
+     */
+    public int evictExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(ttl);
+        int evicted = 0;
+        for (ExportJob job : jobs.values()) {
+            if (job.getStatus().isFinished() && job.getFinishedAt().isBefore(cutoff)
+                    && jobs.remove(job.getId(), job)) {
+                fileStore.delete(job.getId());
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    /** 실행 중·대기 중 작업은 await-termination 동안 마저 처리 */
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private void run(ExportJob job) {
+        waitTimer.record(Duration.between(job.getCreatedAt(), LocalDateTime.now()));
+        job.markRunning();
+        Path path = fileStore.path(job.getId());
+        long startedAt = System.nanoTime();
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(path))) {
+                write(job, out);
+            }
+            job.markDone(Files.size(path));
+            completed.increment();
+        } catch (Exception e) {
+            fileStore.delete(job.getId());
+            job.markFailed("내보내기 파일 생성에 실패했습니다.");
+            failed.increment();
+            log.warn("[Export] {} {}년 {}월 생성 실패 (job={}): {}",
+                    job.getType(), job.getYear(), job.getMonth(), job.getId(), e.getMessage(), e);
+        } finally {
+            runTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void write(ExportJob job, OutputStream out) throws IOException {
+        int year = job.getYear();
+        Integer month = job.getMonth();
+        switch (job.getType()) {
+            case CALENDAR -> calendarExcelService.writeMonthlyCalendar(year, month,
+                    selectedDateService.getAllByMonth(year, month), out);
+            case SUMMARY -> {
+                if (month == null) {
+                    scheduleSummaryExcelService.writeYear(scheduleSummaryService.getYearData(year), out);
+                } else {
+                    scheduleSummaryExcelService.write(scheduleSummaryService.getMonthData(year, month), out);
+                }
+            }
+            case VOUCHER, TIP -> voucherTipService.writeExcel(year, month,
+                    voucherTipService.getMonthData(year, month),
+                    job.getType() == ExportType.VOUCHER ? "voucher" : "tip", out);
+            case WORK_DIARY -> workDiaryExcelService.write(year, month,
+                    workDiaryService.getByMonth(year, month), out);
+        }
+    }
+
+    /**
+     * 우선순위 큐 항목 (execute로 넣어야 FutureTask로 감싸지지 않고 비교 가능)
+     */
+    private final class Task implements Runnable, Comparable<Task> {
+
+        private final ExportJob job;
+        private final long seq;
+
+        Task(ExportJob job, long seq) {
+            this.job = job;
+            this.seq = seq;
+        }
+
+        @Override
+        public void run() {
+            ExportJobService.this.run(job);
+        }
+
+        @Override
+        public int compareTo(Task other) {
+            return TASK_ORDER.compare(this, other);
+        }
+    }
+}
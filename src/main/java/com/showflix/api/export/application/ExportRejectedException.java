@@ -0,0 +1,11 @@
+package com.showflix.api.export.application;
+
+/**
+ * Application Layer - 내보내기 작업 접수 거절 (대기열 포화 / 사용자별 동시 작업 한도 초과)
+ */
+public class ExportRejectedException extends RuntimeException {
+
+    public ExportRejectedException(String message) {
+        super(message);
+    }
+}
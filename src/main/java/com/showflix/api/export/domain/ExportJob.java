@@ -0,0 +1,110 @@
+package com.showflix.api.export.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * Domain Layer - Excel 내보내기 작업 (메모리 보관, 재기동 시 소멸)
+ * - month == null 이면 연간 범위 (ExportType.supportsYearly인 종류만)
+ * - 상태 필드는 작업 스레드가 갱신하고 조회 스레드가 읽으므로 volatile
+ */
+public class ExportJob {
+
+    private final String id;
+    private final ExportType type;
+    private final int year;
+    private final Integer month;
+    private final String requestedBy;
+    private final LocalDateTime createdAt;
+
+    private volatile ExportStatus status = ExportStatus.QUEUED;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile long sizeBytes;
+    private volatile String error;
+
+    public ExportJob(String id, ExportType type, int year, Integer month, String requestedBy) {
+        this.id = id;
+        this.type = type;
+        this.year = year;
+        this.month = month;
+        this.requestedBy = requestedBy;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    /**
+     * 다운로드 파일명 (기존 동기 다운로드와 동일한 형식)
+     */
+    public String filename() {
+        return month != null
+                ? year + "년_" + month + "월_" + type.getLabel() + ".xlsx"
+                : year + "년_" + type.getLabel() + ".xlsx";
+    }
+
+    /**
+     * 실행 우선순위 (작을수록 먼저) - 월 단위 작업을 연간 작업보다 먼저 처리
+     */
+    public int priority() {
+        return month != null ? 0 : 1;
+    }
+
+    public void markRunning() {
+        this.startedAt = LocalDateTime.now();
+        this.status = ExportStatus.RUNNING;
+    }
+
+    public void markDone(long sizeBytes) {
+        this.sizeBytes = sizeBytes;
+        this.finishedAt = LocalDateTime.now();
+        this.status = ExportStatus.DONE;
+    }
+
+    public void markFailed(String error) {
+        this.error = error;
+        this.finishedAt = LocalDateTime.now();
+        this.status = ExportStatus.FAILED;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public ExportType getType() {
+        return type;
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    public Integer getMonth() {
+        return month;
+    }
+
+    public String getRequestedBy() {
+        return requestedBy;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public ExportStatus getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
@@ -0,0 +1,15 @@
+package com.showflix.api.export.domain;
+
+/**
+ * Domain Layer - 내보내기 작업 상태
+ */
+public enum ExportStatus {
+    QUEUED,
+    RUNNING,
+    DONE,
+    FAILED;
+
+    public boolean isFinished() {
+        return this == DONE || this == FAILED;
+    }
+}
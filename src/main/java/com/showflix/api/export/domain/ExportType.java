@@ -0,0 +1,47 @@
+package com.showflix.api.export.domain;
+
+import java.util.Arrays;
+
+/**
+ * Domain Layer - Excel 내보내기 종류
+ * - code: API 요청 값 (예: "work-diary")
+ * - label: 파일명에 쓰는 이름
+ * - yearly: 월 없이 연 단위 범위 허용 여부 (출근시간만 연간 시트 지원)
+ */
+public enum ExportType {
+
+    CALENDAR("calendar", "달력", false),
+    SUMMARY("summary", "출근시간", true),
+    VOUCHER("voucher", "바우처", false),
+    TIP("tip", "팁", false),
+    WORK_DIARY("work-diary", "업무일지", false);
+
+    private final String code;
+    private final String label;
+    private final boolean yearly;
+
+    ExportType(String code, String label, boolean yearly) {
+        this.code = code;
+        this.label = label;
+        this.yearly = yearly;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public boolean supportsYearly() {
+        return yearly;
+    }
+
+    public static ExportType from(String code) {
+        return Arrays.stream(values())
+                .filter(t -> t.code.equalsIgnoreCase(code))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 내보내기 종류입니다: " + code));
+    }
+}
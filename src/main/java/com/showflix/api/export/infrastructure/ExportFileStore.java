@@ -0,0 +1,77 @@
+package com.showflix.api.export.infrastructure;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Infrastructure Layer - 내보내기 결과 파일 저장소 (로컬 디스크)
+ * - 작업 ID별 파일 1개 ({id}.xlsx), 작업 목록이 메모리에만 있으므로 기동 시 남은 파일은 삭제
+ * - showflix.export.dir 미지정 시 임시 디렉터리를 만들고 종료 시 함께 삭제
+ */
+@Component
+public class ExportFileStore {
+
+    private static final Logger log = LoggerFactory.getLogger(ExportFileStore.class);
+    private static final String SUFFIX = ".xlsx";
+
+    private final Path dir;
+    private final boolean temporary;
+
+    public ExportFileStore(@Value("${showflix.export.dir:}") String dir) {
+        this.temporary = dir.isBlank();
+        try {
+            this.dir = temporary
+                    ? Files.createTempDirectory("showflix-export-")
+                    : Files.createDirectories(Path.of(dir));
+        } catch (IOException e) {
+            throw new UncheckedIOException("내보내기 파일 디렉터리를 만들 수 없습니다: " + dir, e);
+        }
+        deleteAll();
+    }
+
+    /**
+     * 작업 결과 파일 경로 (id는 서버가 발급한 UUID만 사용)
+     */
+    public Path path(String id) {
+        return dir.resolve(id + SUFFIX);
+    }
+
+    public void delete(String id) {
+        try {
+            Files.deleteIfExists(path(id));
+        } catch (IOException e) {
+            log.warn("[Export] 파일 삭제 실패 {}: {}", id, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        deleteAll();
+        if (temporary) {
+            try {
+                Files.deleteIfExists(dir);
+            } catch (IOException e) {
+                log.warn("[Export] 임시 디렉터리 삭제 실패 {}: {}", dir, e.getMessage());
+            }
+        }
+    }
+
+    private void deleteAll() {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*" + SUFFIX)) {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            log.warn("[Export] 파일 정리 실패 {}: {}", dir, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.showflix.api.export.interfaces;
+
+import com.showflix.api.auth.infrastructure.security.CustomUserDetails;
+import com.showflix.api.common.excel.ExcelDownload;
+import com.showflix.api.export.application.ExportJobService;
+import com.showflix.api.export.application.ExportRejectedException;
+import com.showflix.api.export.domain.ExportJob;
+import com.showflix.api.export.domain.ExportStatus;
+import com.showflix.api.export.interfaces.dto.ExportJobRequest;
+import com.showflix.api.export.interfaces.dto.ExportJobResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * Interfaces Layer - Excel 내보내기 작업 API (관리자 전용)
+ * 접수(POST) → 상태 폴링(GET) → DONE이면 downloadUrl로 다운로드
+ */
+@RestController
+@RequestMapping("/api/exports")
+@PreAuthorize("hasRole('ADMIN')")
+public class ExportController {
+
+    private final ExportJobService exportJobService;
+
+    public ExportController(ExportJobService exportJobService) {
+        this.exportJobService = exportJobService;
+    }
+
+    /**
+     * 내보내기 작업 접수
+     * POST /api/exports
+     * Body: { "type": "calendar", "year": 2026, "month": 3 }
+     *       { "type": "summary", "year": 2026 }  (연간)
+     * 202 + 작업 상태, 대기열 포화/사용자 한도 초과 시 429
+     */
+    @PostMapping
+    public ResponseEntity<?> submit(@RequestBody ExportJobRequest request) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !(auth.getPrincipal() instanceof CustomUserDetails cud)) {
+            return ResponseEntity.status(401).build();
+        }
+        try {
+            ExportJob job = exportJobService.submit(request.type(), request.year(), request.month(),
+                    cud.getUser().getUserid());
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(ExportJobResponse.from(job));
+        } catch (ExportRejectedException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    /**
+     * 작업 상태 조회 (폴링)
+     * GET /api/exports/{id}
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<ExportJobResponse> get(@PathVariable String id) {
+        return exportJobService.find(id)
+                .map(job -> ResponseEntity.ok()
+                        .cacheControl(CacheControl.noStore())
+                        .body(ExportJobResponse.from(job)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 결과 파일 다운로드
+     * GET /api/exports/{id}/file
+     * 미완료 409, 없음/만료 404
+     */
+    @GetMapping("/{id}/file")
+    public ResponseEntity<?> download(@PathVariable String id) {
+        ExportJob job = exportJobService.find(id).orElse(null);
+        if (job == null) {
+            return ResponseEntity.notFound().build();
+        }
+        if (job.getStatus() != ExportStatus.DONE) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(Map.of("message", "내보내기가 완료되지 않았습니다.", "status", job.getStatus()));
+        }
+        Path file = exportJobService.file(job);
+        return ExcelDownload.of(job.filename(), out -> Files.copy(file, out));
+    }
+}
@@ -0,0 +1,9 @@
+package com.showflix.api.export.interfaces.dto;
+
+/**
+ * Interfaces Layer - 내보내기 작업 접수 요청
+ * type: calendar | summary | voucher | tip | work-diary
+ * month 생략 시 연간 범위 (summary만 지원)
+ */
+public record ExportJobRequest(String type, int year, Integer month) {
+}
@@ -0,0 +1,42 @@
+package com.showflix.api.export.interfaces.dto;
+
+import com.showflix.api.export.domain.ExportJob;
+import com.showflix.api.export.domain.ExportStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Interfaces Layer - 내보내기 작업 상태 응답
+ * downloadUrl은 DONE 상태에서만 포함
+ */
+public record ExportJobResponse(
+        String id,
+        String type,
+        int year,
+        Integer month,
+        ExportStatus status,
+        String filename,
+        long sizeBytes,
+        String error,
+        LocalDateTime createdAt,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        String downloadUrl
+) {
+    public static ExportJobResponse from(ExportJob job) {
+        ExportStatus status = job.getStatus();
+        return new ExportJobResponse(
+                job.getId(),
+                job.getType().getCode(),
+                job.getYear(),
+                job.getMonth(),
+                status,
+                job.filename(),
+                job.getSizeBytes(),
+                job.getError(),
+                job.getCreatedAt(),
+                job.getStartedAt(),
+                job.getFinishedAt(),
+                status == ExportStatus.DONE ? "/api/exports/" + job.getId() + "/file" : null);
+    }
+}
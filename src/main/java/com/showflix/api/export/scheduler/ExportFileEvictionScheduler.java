@@ -0,0 +1,31 @@
+package com.showflix.api.export.scheduler;
+
+import com.showflix.api.export.application.ExportJobService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 만료된 내보내기 작업/결과 파일 정리 (완료 후 showflix.export.ttl 경과분)
+ */
+@Component
+public class ExportFileEvictionScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(ExportFileEvictionScheduler.class);
+
+    private final ExportJobService exportJobService;
+
+    public ExportFileEvictionScheduler(ExportJobService exportJobService) {
+        this.exportJobService = exportJobService;
+    }
+
+    /** 5분마다 */
+    @Scheduled(cron = "0 */5 * * * *")
+    public void evict() {
+        int evicted = exportJobService.evictExpired();
+        if (evicted > 0) {
+            log.info("[Export Eviction] 만료 작업 {}건 삭제", evicted);
+        }
+    }
+}
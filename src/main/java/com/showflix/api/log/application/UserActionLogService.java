@@ -3,24 +3,35 @@ package com.showflix.api.log.application;
 import com.showflix.api.log.domain.UserActionLog;
 import com.showflix.api.log.mapper.UserActionLogMapper;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Service
 public class UserActionLogService {
 
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int COUNT_CAP = 10_000;
+
     private final UserActionLogMapper logMapper;
+    private final UserActionLogWriter logWriter;
 
-    public UserActionLogService(UserActionLogMapper logMapper) {
+    public UserActionLogService(UserActionLogMapper logMapper, UserActionLogWriter logWriter) {
         this.logMapper = logMapper;
+        this.logWriter = logWriter;
     }
 
-    /** 로그 저장 — 새 트랜잭션으로 분리, 비즈니스 롤백과 무관하게 독립 커밋 */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    /**
+     * 로그 저장 — 비동기 기록기 큐에 적재 후 즉시 반환
+     * 기록은 별도 스레드에서 수행되므로 비즈니스 롤백과 무관하게 보존
+     */
     public void log(UserActionLog log) {
-        logMapper.insert(log);
+        logWriter.enqueue(log);
     }
 
     @Transactional(readOnly = true)
@@ -35,4 +46,62 @@ public class UserActionLogService {
             "size",  size
         );
     }
+
+    /**
+     * 커서 기반 조회 — (created_at, id) 내림차순
+     * - cursor: 이전 응답의 nextCursor (첫 페이지는 null)
+     * - withCount: 첫 페이지에서만 건수 계산, COUNT_CAP건 초과 시 totalCapped=true
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> searchByCursor(String username, String action,
+                                              String startDate, String endDate,
+                                              String cursor, int size, boolean withCount) {
+        if (size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("size는 1~" + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        LocalDateTime cursorCreatedAt = null;
+        Long cursorId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = decodeCursor(cursor);
+            cursorCreatedAt = LocalDateTime.parse(parts[0]);
+            cursorId = Long.parseLong(parts[1]);
+        }
+
+        // 한 건 더 조회해서 다음 페이지 존재 여부 판단
+        List<UserActionLog> items = logMapper.findByFilterAfter(
+                username, action, startDate, endDate, cursorCreatedAt, cursorId, size + 1);
+        boolean hasNext = items.size() > size;
+        if (hasNext) {
+            items = items.subList(0, size);
+        }
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("items", items);
+        result.put("size", size);
+        result.put("nextCursor", hasNext ? encodeCursor(items.get(items.size() - 1)) : null);
+        if (withCount && cursorCreatedAt == null) {
+            int total = logMapper.countByFilterCapped(username, action, startDate, endDate, COUNT_CAP + 1);
+            result.put("total", Math.min(total, COUNT_CAP));
+            result.put("totalCapped", total > COUNT_CAP);
+        }
+        return result;
+    }
+
+    private static String encodeCursor(UserActionLog last) {
+        String raw = last.getCreatedAt() + "|" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 2) throw new IllegalArgumentException();
+            LocalDateTime.parse(parts[0]);
+            Long.parseLong(parts[1]);
+            return parts;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("유효하지 않은 cursor 입니다.");
+        }
+    }
 }
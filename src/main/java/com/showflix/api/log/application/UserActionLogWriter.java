@@ -0,0 +1,169 @@
+package com.showflix.api.log.application;
+
+import com.showflix.api.log.domain.UserActionLog;
+import com.showflix.api.log.mapper.UserActionLogMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Application Layer - 사용자 행동 로그 비동기 배치 기록기
+ * - 요청 스레드는 큐에 넣기만 하고 즉시 반환 (커넥션/커밋 비용 제거)
+ * - 백그라운드 스레드 1개가 batchSize 단위로 모아 multi-row INSERT
+ * - 큐가 가득 차면 새 로그를 버림 (요청 지연보다 로그 유실을 택함), dropped 카운터로 집계
+ * - 종료 시 남은 로그를 모두 기록한 뒤 종료
+ */
+@Component
+public class UserActionLogWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(UserActionLogWriter.class);
+
+    private final UserActionLogMapper logMapper;
+    private final BlockingQueue<UserActionLog> queue;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final long shutdownTimeoutMillis;
+
+    private final Counter dropped;
+    private final Counter written;
+    private final Counter failed;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public UserActionLogWriter(UserActionLogMapper logMapper,
+                               MeterRegistry meterRegistry,
+                               @Value("${showflix.action-log.queue-capacity:10000}") int queueCapacity,
+                               @Value("${showflix.action-log.batch-size:100}") int batchSize,
+                               @Value("${showflix.action-log.flush-interval:1s}") Duration flushInterval,
+                               @Value("${showflix.action-log.shutdown-timeout:10s}") Duration shutdownTimeout) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("showflix.action-log.batch-size는 1 이상이어야 합니다.");
+        }
+        this.logMapper = logMapper;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushInterval.toMillis();
+        this.shutdownTimeoutMillis = shutdownTimeout.toMillis();
+
+        Gauge.builder("showflix.action_log.queue.depth", queue, BlockingQueue::size)
+                .description("기록 대기 중인 사용자 행동 로그 수")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("showflix.action_log.dropped")
+                .description("큐 포화로 버려진 로그 수")
+                .register(meterRegistry);
+        this.written = Counter.builder("showflix.action_log.written")
+                .description("DB에 기록된 로그 수")
+                .register(meterRegistry);
+        this.failed = Counter.builder("showflix.action_log.failed")
+                .description("INSERT 실패로 유실된 로그 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        worker = new Thread(this::runLoop, "action-log-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * 로그 적재 — 블로킹 없음
+     * 기록 시각은 실제 INSERT 시점이 아닌 적재 시점
+     * @return 큐 포화로 버려졌으면 false
+     */
+    public boolean enqueue(UserActionLog entry) {
+        if (entry.getCreatedAt() == null) {
+            entry.setCreatedAt(LocalDateTime.now());
+        }
+        if (!running || !queue.offer(entry)) {
+            dropped.increment();
+            return false;
+        }
+        return true;
+    }
+
+    private void runLoop() {
+        List<UserActionLog> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                UserActionLog first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                // 첫 건 이후 flushInterval 동안 batchSize까지 모음
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    if (batch.size() >= batchSize) break;
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) break;
+                    UserActionLog next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+                write(batch);
+            } catch (InterruptedException e) {
+                // 종료 신호 — 수집 중이던 배치를 기록하고 나머지는 drain()에서 처리
+                write(batch);
+                Thread.currentThread().interrupt();
+                return;
+            }
+            batch.clear();
+        }
+    }
+
+    private void write(List<UserActionLog> batch) {
+        if (batch.isEmpty()) return;
+        try {
+            // 트랜잭션 밖에서 실행 → 문장 단위 자동 커밋 (비즈니스 트랜잭션과 무관)
+            logMapper.insertAll(batch);
+            written.increment(batch.size());
+        } catch (Exception e) {
+            failed.increment(batch.size());
+            log.warn("[ActionLog] 로그 {}건 기록 실패: {}", batch.size(), e.getMessage());
+        }
+    }
+
+    /** 종료 시 워커를 멈추고 큐에 남은 로그를 배치 단위로 기록 */
+    @PreDestroy
+    void drain() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            try {
+                worker.join(shutdownTimeoutMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        long deadline = System.currentTimeMillis() + shutdownTimeoutMillis;
+        List<UserActionLog> batch = new ArrayList<>(batchSize);
+        while (!queue.isEmpty() && System.currentTimeMillis() < deadline) {
+            queue.drainTo(batch, batchSize);
+            write(batch);
+            batch.clear();
+        }
+        if (!queue.isEmpty()) {
+            int remaining = queue.size();
+            queue.clear();
+            dropped.increment(remaining);
+            log.warn("[ActionLog] 종료 대기 시간 초과로 로그 {}건 유실", remaining);
+        }
+    }
+}
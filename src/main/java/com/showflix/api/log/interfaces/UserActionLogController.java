@@ -31,4 +31,17 @@ public class UserActionLogController {
             @RequestParam(defaultValue = "50") int size) {
         return ResponseEntity.ok(service.search(username, action, startDate, endDate, page, size));
     }
+
+    /** 커서 기반 조회 — 응답의 nextCursor를 다음 요청의 cursor로 전달 */
+    @GetMapping("/cursor")
+    public ResponseEntity<Map<String, Object>> searchByCursor(
+            @RequestParam(required = false) String username,
+            @RequestParam(required = false) String action,
+            @RequestParam(required = false) String startDate,
+            @RequestParam(required = false) String endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "false") boolean withCount) {
+        return ResponseEntity.ok(service.searchByCursor(username, action, startDate, endDate, cursor, size, withCount));
+    }
 }
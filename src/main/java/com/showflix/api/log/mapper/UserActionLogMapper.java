@@ -4,12 +4,14 @@ import com.showflix.api.log.domain.UserActionLog;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @Mapper
 public interface UserActionLogMapper {
 
-    void insert(UserActionLog log);
+    int insertAll(@Param("list") List<UserActionLog> logs);
 
     List<UserActionLog> findByFilter(@Param("username") String username,
                                      @Param("action") String action,
@@ -23,5 +25,23 @@ public interface UserActionLogMapper {
                       @Param("startDate") String startDate,
                       @Param("endDate") String endDate);
 
-    int deleteOlderThan(@Param("cutoffDate") String cutoffDate);
+    List<UserActionLog> findByFilterAfter(@Param("username") String username,
+                                          @Param("action") String action,
+                                          @Param("startDate") String startDate,
+                                          @Param("endDate") String endDate,
+                                          @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                          @Param("cursorId") Long cursorId,
+                                          @Param("size") int size);
+
+    int countByFilterCapped(@Param("username") String username,
+                            @Param("action") String action,
+                            @Param("startDate") String startDate,
+                            @Param("endDate") String endDate,
+                            @Param("cap") int cap);
+
+    Map<String, Object> findIdRangeOlderThan(@Param("cutoffDate") String cutoffDate);
+
+    int deleteOlderThanInIdRange(@Param("cutoffDate") String cutoffDate,
+                                 @Param("fromId") long fromId,
+                                 @Param("toId") long toId);
 }
@@ -1,14 +1,27 @@
 package com.showflix.api.log.scheduler;
 
 import com.showflix.api.log.mapper.UserActionLogMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * 사용자 행동 로그 보관기간 정리
+ * - PK 구간(chunkSize) 단위로 나눠 삭제, 청크마다 자동 커밋 → 잠금/undo 범위 제한
+ * - 청크 사이 pause 만큼 쉬어 야간 입력과 경합 완화
+ * - 중단되어도 다음 실행 시 남은 최소 id부터 다시 시작 (이미 지운 구간은 자연히 제외)
+ */
 @Component
 public class UserActionLogCleanupScheduler {
 
@@ -16,9 +29,33 @@ public class UserActionLogCleanupScheduler {
     private static final int RETENTION_DAYS = 14;
 
     private final UserActionLogMapper logMapper;
+    private final int chunkSize;
+    private final Duration pause;
+    private final Duration maxDuration;
 
-    public UserActionLogCleanupScheduler(UserActionLogMapper logMapper) {
+    private final Counter deletedRows;
+    private final Timer chunkTimer;
+    private final AtomicLong remainingIds = new AtomicLong();
+
+    public UserActionLogCleanupScheduler(UserActionLogMapper logMapper,
+                                         MeterRegistry meterRegistry,
+                                         @Value("${showflix.action-log.purge.chunk-size:5000}") int chunkSize,
+                                         @Value("${showflix.action-log.purge.pause:200ms}") Duration pause,
+                                         @Value("${showflix.action-log.purge.max-duration:30m}") Duration maxDuration) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("showflix.action-log.purge.chunk-size는 1 이상이어야 합니다.");
+        }
         this.logMapper = logMapper;
+        this.chunkSize = chunkSize;
+        this.pause = pause;
+        this.maxDuration = maxDuration;
+        this.deletedRows = Counter.builder("showflix.action_log.purge.deleted")
+                .description("보관기간 정리로 삭제된 로그 수")
+                .register(meterRegistry);
+        this.chunkTimer = Timer.builder("showflix.action_log.purge.chunk")
+                .description("청크 1회 삭제 소요 시간")
+                .register(meterRegistry);
+        meterRegistry.gauge("showflix.action_log.purge.remaining_ids", remainingIds);
     }
 
     /** 매일 새벽 3시에 2주 이전 로그 삭제 */
@@ -26,7 +63,56 @@ public class UserActionLogCleanupScheduler {
     public void cleanup() {
         String cutoffDate = LocalDate.now().minusDays(RETENTION_DAYS)
                 .format(DateTimeFormatter.ISO_LOCAL_DATE);
-        int deleted = logMapper.deleteOlderThan(cutoffDate);
-        log.info("[ActionLog Cleanup] {}일 이전 로그 {}건 삭제 (기준: {})", RETENTION_DAYS, deleted, cutoffDate);
+
+        Map<String, Object> range = logMapper.findIdRangeOlderThan(cutoffDate);
+        if (range == null || range.get("minId") == null) {
+            log.info("[ActionLog Cleanup] 삭제 대상 없음 (기준: {})", cutoffDate);
+            return;
+        }
+        long fromId = ((Number) range.get("minId")).longValue();
+        long maxId = ((Number) range.get("maxId")).longValue();
+
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + maxDuration.toNanos();
+        long deleted = 0;
+        int chunks = 0;
+
+        while (fromId <= maxId) {
+            remainingIds.set(maxId - fromId + 1);
+            if (System.nanoTime() > deadline) {
+                log.warn("[ActionLog Cleanup] 최대 실행 시간 초과로 중단 (다음 실행 시 id {}부터 재개)", fromId);
+                break;
+            }
+            long toId = Math.min(maxId, fromId + chunkSize - 1);
+            long from = fromId;
+            int n = chunkTimer.record(() -> logMapper.deleteOlderThanInIdRange(cutoffDate, from, toId));
+            deleted += n;
+            deletedRows.increment(n);
+            chunks++;
+            fromId = toId + 1;
+
+            if (fromId <= maxId && !pause.isZero() && !sleep(pause)) {
+                log.warn("[ActionLog Cleanup] 인터럽트로 중단 (다음 실행 시 id {}부터 재개)", fromId);
+                break;
+            }
+        }
+        if (fromId > maxId) {
+            remainingIds.set(0);
+        }
+
+        double seconds = Math.max((System.nanoTime() - startedAt) / 1_000_000_000.0, 0.001);
+        log.info("[ActionLog Cleanup] {}일 이전 로그 {}건 삭제 (기준: {}, 청크 {}개, {}초, {}건/초)",
+                RETENTION_DAYS, deleted, cutoffDate, chunks,
+                String.format("%.1f", seconds), Math.round(deleted / seconds));
+    }
+
+    private static boolean sleep(Duration d) {
+        try {
+            Thread.sleep(d.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
     }
 }
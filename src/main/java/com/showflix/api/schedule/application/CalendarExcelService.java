@@ -1,18 +1,22 @@
 package com.showflix.api.schedule.application;
 
+import com.showflix.api.common.excel.ExcelExportEngine;
+import com.showflix.api.common.excel.ExcelStyle;
+import com.showflix.api.common.excel.ExcelStyles;
 import com.showflix.api.schedule.domain.ScheduleRole;
 import com.showflix.api.schedule.domain.SelectedDate;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.ss.util.CellRangeAddress;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.stereotype.Service;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.util.*;
-import java.util.stream.Collectors;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Application Layer - 월별 달력 Excel 생성 서비스
@@ -30,314 +34,180 @@ public class CalendarExcelService {
 
     private static final String[] DAY_OF_WEEK_KR = {"일", "월", "화", "수", "목", "금", "토"};
 
-    public byte[] generateMonthlyCalendar(int year, int month, List<SelectedDate> data) {
-        // date -> 출근자 목록
-        Map<String, List<SelectedDate>> dateMap = data.stream()
-                .collect(Collectors.groupingBy(SelectedDate::getDate));
+    /** 셀 내용 (names == null → 빈 칸) */
+    private record CellContent(String names, ExcelStyle style) {}
 
-        try (XSSFWorkbook workbook = new XSSFWorkbook()) {
-            Sheet sheet = workbook.createSheet(year + "년 " + month + "월");
+    private static final CellContent EMPTY_CELL = new CellContent(null, ExcelStyle.DATA);
 
-            // 스타일 생성 (워크북당 1회)
-            Styles styles = createStyles(workbook);
+    // 행 번호: ROLE_DISPLAY_ORDER 순서의 역할 행 + 마지막 "예비" 행
+    private static final int RESERVE_ROW = ROLE_DISPLAY_ORDER.length;
+    private static final Map<String, Integer> ROLE_ROW = new HashMap<>();
+    static {
+        for (int i = 0; i < ROLE_DISPLAY_ORDER.length; i++) {
+            ROLE_ROW.put(ROLE_DISPLAY_ORDER[i].name(), i);
+        }
+    }
 
-            int rowNum = 0;
+    private final ExcelExportEngine excelEngine;
 
-            // 타이틀 행
-            Row titleRow = sheet.createRow(rowNum++);
-            titleRow.setHeightInPoints(22);
-            Cell titleCell = titleRow.createCell(0);
-            titleCell.setCellValue(year + "년 " + month + "월 달력");
-            titleCell.setCellStyle(styles.title);
-            sheet.addMergedRegion(new CellRangeAddress(0, 0, 0, 7));
+    public CalendarExcelService(ExcelExportEngine excelEngine) {
+        this.excelEngine = excelEngine;
+    }
 
-            // 주 블록 생성
-            LocalDate firstDay = LocalDate.of(year, month, 1);
-            int daysInMonth = firstDay.lengthOfMonth();
-            // 일요일=0 기준 첫 날의 요일 offset
-            int firstDow = firstDay.getDayOfWeek() == DayOfWeek.SUNDAY ? 0
-                    : firstDay.getDayOfWeek().getValue(); // MON=1..SAT=6, SUN handled above
+    /**
+     * 월별 달력 Excel을 out에 스트리밍 기록
+     */
+    public void writeMonthlyCalendar(int year, int month, List<SelectedDate> data, OutputStream out)
+            throws IOException {
+        excelEngine.write(out, (workbook, styles) -> writeSheet(workbook, styles, year, month, data));
+    }
 
-            // 달력 슬롯 배열 (null = 해당 월 외 padding)
-            int totalSlots = (int) Math.ceil((firstDow + daysInMonth) / 7.0) * 7;
-            Integer[] slots = new Integer[totalSlots];
-            for (int i = 0; i < daysInMonth; i++) {
-                slots[firstDow + i] = i + 1;
+    /**
+     * (일, 역할 행) → 셀 내용 인덱스
+     * 데이터 1회 순회로 분류한 뒤 셀마다 이름/스타일을 한 번만 계산
+     * @return [day][row], day는 1부터 (0번은 미사용)
+     */
+    private static CellContent[][] buildIndex(int year, int month, int daysInMonth, List<SelectedDate> data) {
+        String monthPrefix = String.format("%04d-%02d-", year, month);
+        int rowCount = RESERVE_ROW + 1;
+
+        @SuppressWarnings("unchecked")
+        List<SelectedDate>[][] persons = new List[daysInMonth + 1][rowCount];
+        for (SelectedDate sd : data) {
+            String date = sd.getDate();
+            if (date == null || date.length() != 10 || !date.startsWith(monthPrefix)) continue;
+            int day = Integer.parseInt(date.substring(8));
+            if (day < 1 || day > daysInMonth) continue;
+            // Enum에 매칭되지 않는 역할(공백 포함)은 "예비" 행
+            Integer row = sd.getRole() == null ? null : ROLE_ROW.get(sd.getRole());
+            int r = row != null ? row : RESERVE_ROW;
+            if (persons[day][r] == null) {
+                persons[day][r] = new ArrayList<>(2);
             }
+            persons[day][r].add(sd);
+        }
 
-            int numWeeks = totalSlots / 7;
-            for (int w = 0; w < numWeeks; w++) {
-                // 요일 헤더 행
-                Row headerRow = sheet.createRow(rowNum++);
-                headerRow.setHeightInPoints(18);
-
-                Cell roleHeaderCell = headerRow.createCell(0);
-                roleHeaderCell.setCellValue("역할");
-                roleHeaderCell.setCellStyle(styles.roleHeader);
-
-                for (int d = 0; d < 7; d++) {
-                    Integer day = slots[w * 7 + d];
-                    Cell cell = headerRow.createCell(d + 1);
-                    if (day == null) {
-                        cell.setCellStyle(styles.padding);
-                    } else {
-                        cell.setCellValue(DAY_OF_WEEK_KR[d] + "(" + day + ")");
-                        cell.setCellStyle(d == 0 ? styles.sunHeader
-                                : d == 6 ? styles.satHeader
-                                : styles.weekdayHeader);
-                    }
-                }
-
-                // 유효한 역할 코드 Set
-                Set<String> validRoleNames = Arrays.stream(ScheduleRole.values())
-                        .map(Enum::name)
-                        .collect(Collectors.toSet());
-
-                // 역할별 데이터 행
-                for (ScheduleRole role : ROLE_DISPLAY_ORDER) {
-                    Row dataRow = sheet.createRow(rowNum++);
-                    dataRow.setHeightInPoints(18);
-
-                    Cell roleLabelCell = dataRow.createCell(0);
-                    roleLabelCell.setCellValue(role.getDisplayName());
-                    roleLabelCell.setCellStyle(styles.roleLabel);
-
-                    for (int d = 0; d < 7; d++) {
-                        Integer day = slots[w * 7 + d];
-                        Cell cell = dataRow.createCell(d + 1);
-                        if (day == null) {
-                            cell.setCellStyle(styles.padding);
-                            continue;
-                        }
-                        String dateStr = String.format("%04d-%02d-%02d", year, month, day);
-                        List<SelectedDate> dayData = dateMap.getOrDefault(dateStr, Collections.emptyList());
-
-                        List<SelectedDate> rolePersons = dayData.stream()
-                                .filter(sd -> role.name().equals(sd.getRole()))
-                                .toList();
+        CellContent[][] index = new CellContent[daysInMonth + 1][rowCount];
+        for (int day = 1; day <= daysInMonth; day++) {
+            for (int r = 0; r < rowCount; r++) {
+                index[day][r] = toContent(persons[day][r]);
+            }
+        }
+        return index;
+    }
 
-                        if (rolePersons.isEmpty()) {
-                            cell.setCellStyle(styles.empty);
-                        } else {
-                            boolean hasConfirmed = rolePersons.stream().anyMatch(sd -> "Y".equalsIgnoreCase(sd.getConfirmed()));
-                            boolean hasUnconfirmed = rolePersons.stream().anyMatch(sd -> !"Y".equalsIgnoreCase(sd.getConfirmed()));
+    private static CellContent toContent(List<SelectedDate> list) {
+        if (list == null) return EMPTY_CELL;
+        boolean hasConfirmed = false;
+        boolean hasUnconfirmed = false;
+        StringBuilder names = new StringBuilder();
+        for (SelectedDate sd : list) {
+            if ("Y".equalsIgnoreCase(sd.getConfirmed())) {
+                hasConfirmed = true;
+            } else {
+                hasUnconfirmed = true;
+            }
+            String name = sd.getUserName();
+            if (name != null && !name.isBlank()) {
+                if (names.length() > 0) names.append('\n');
+                names.append(name);
+            }
+        }
+        ExcelStyle style = hasConfirmed && hasUnconfirmed ? ExcelStyle.CAL_MIXED
+                : hasConfirmed ? ExcelStyle.CAL_CONFIRMED
+                : ExcelStyle.CAL_UNCONFIRMED;
+        return new CellContent(names.toString(), style);
+    }
 
-                            String names = rolePersons.stream()
-                                    .map(SelectedDate::getUserName)
-                                    .filter(n -> n != null && !n.isBlank())
-                                    .collect(Collectors.joining("\n"));
-                            cell.setCellValue(names);
+    private void writeSheet(Workbook workbook, ExcelStyles styles, int year, int month, List<SelectedDate> data) {
+        Sheet sheet = workbook.createSheet(year + "년 " + month + "월");
+
+        int rowNum = 0;
+
+        // 타이틀 행
+        Row titleRow = sheet.createRow(rowNum++);
+        titleRow.setHeightInPoints(22);
+        Cell titleCell = titleRow.createCell(0);
+        titleCell.setCellValue(year + "년 " + month + "월 달력");
+        titleCell.setCellStyle(styles.get(ExcelStyle.TITLE_GREY));
+        sheet.addMergedRegion(new CellRangeAddress(0, 0, 0, 7));
+
+        // 주 블록 생성
+        LocalDate firstDay = LocalDate.of(year, month, 1);
+        int daysInMonth = firstDay.lengthOfMonth();
+        // 일요일=0 기준 첫 날의 요일 offset
+        int firstDow = firstDay.getDayOfWeek() == DayOfWeek.SUNDAY ? 0
+                : firstDay.getDayOfWeek().getValue(); // MON=1..SAT=6, SUN handled above
+
+        // 달력 슬롯 배열 (0 = 해당 월 외 padding)
+        int totalSlots = (int) Math.ceil((firstDow + daysInMonth) / 7.0) * 7;
+        int[] slots = new int[totalSlots];
+        for (int i = 0; i < daysInMonth; i++) {
+            slots[firstDow + i] = i + 1;
+        }
 
-                            if (hasConfirmed && hasUnconfirmed) {
-                                cell.setCellStyle(styles.mixed);
-                            } else if (hasConfirmed) {
-                                cell.setCellStyle(styles.confirmed);
-                            } else {
-                                cell.setCellStyle(styles.unconfirmed);
-                            }
-                        }
-                    }
+        CellContent[][] index = buildIndex(year, month, daysInMonth, data);
+        CellStyle padding = styles.get(ExcelStyle.CAL_PADDING);
+        CellStyle roleLabel = styles.get(ExcelStyle.CAL_ROLE_LABEL);
+
+        int numWeeks = totalSlots / 7;
+        for (int w = 0; w < numWeeks; w++) {
+            // 요일 헤더 행
+            Row headerRow = sheet.createRow(rowNum++);
+            headerRow.setHeightInPoints(18);
+
+            Cell roleHeaderCell = headerRow.createCell(0);
+            roleHeaderCell.setCellValue("역할");
+            roleHeaderCell.setCellStyle(styles.get(ExcelStyle.CAL_HEADER));
+
+            for (int d = 0; d < 7; d++) {
+                int day = slots[w * 7 + d];
+                Cell cell = headerRow.createCell(d + 1);
+                if (day == 0) {
+                    cell.setCellStyle(padding);
+                } else {
+                    cell.setCellValue(DAY_OF_WEEK_KR[d] + "(" + day + ")");
+                    cell.setCellStyle(d == 0 ? styles.get(ExcelStyle.CAL_SUN_HEADER)
+                            : d == 6 ? styles.get(ExcelStyle.CAL_SAT_HEADER)
+                            : styles.get(ExcelStyle.CAL_HEADER));
                 }
+            }
 
-                // "예비" 행: Enum에 매칭되지 않는 모든 사용자
-                Row reserveRow = sheet.createRow(rowNum++);
-                reserveRow.setHeightInPoints(18);
+            // 역할별 데이터 행 + "예비" 행
+            for (int r = 0; r <= RESERVE_ROW; r++) {
+                Row dataRow = sheet.createRow(rowNum++);
+                dataRow.setHeightInPoints(18);
 
-                Cell reserveLabelCell = reserveRow.createCell(0);
-                reserveLabelCell.setCellValue("예비");
-                reserveLabelCell.setCellStyle(styles.roleLabel);
+                Cell labelCell = dataRow.createCell(0);
+                labelCell.setCellValue(r == RESERVE_ROW ? "예비" : ROLE_DISPLAY_ORDER[r].getDisplayName());
+                labelCell.setCellStyle(roleLabel);
 
                 for (int d = 0; d < 7; d++) {
-                    Integer day = slots[w * 7 + d];
-                    Cell cell = reserveRow.createCell(d + 1);
-                    if (day == null) {
-                        cell.setCellStyle(styles.padding);
+                    int day = slots[w * 7 + d];
+                    Cell cell = dataRow.createCell(d + 1);
+                    if (day == 0) {
+                        cell.setCellStyle(padding);
                         continue;
                     }
-                    String dateStr = String.format("%04d-%02d-%02d", year, month, day);
-                    List<SelectedDate> dayData = dateMap.getOrDefault(dateStr, Collections.emptyList());
-
-                    List<SelectedDate> noRolePersons = dayData.stream()
-                            .filter(sd -> sd.getRole() == null || sd.getRole().isBlank()
-                                    || !validRoleNames.contains(sd.getRole()))
-                            .toList();
-
-                    if (noRolePersons.isEmpty()) {
-                        cell.setCellStyle(styles.empty);
-                    } else {
-                        boolean hasConfirmed = noRolePersons.stream().anyMatch(sd -> "Y".equalsIgnoreCase(sd.getConfirmed()));
-                        boolean hasUnconfirmed = noRolePersons.stream().anyMatch(sd -> !"Y".equalsIgnoreCase(sd.getConfirmed()));
-
-                        String names = noRolePersons.stream()
-                                .map(SelectedDate::getUserName)
-                                .filter(n -> n != null && !n.isBlank())
-                                .collect(Collectors.joining("\n"));
-                        cell.setCellValue(names);
-
-                        if (hasConfirmed && hasUnconfirmed) {
-                            cell.setCellStyle(styles.mixed);
-                        } else if (hasConfirmed) {
-                            cell.setCellStyle(styles.confirmed);
-                        } else {
-                            cell.setCellStyle(styles.unconfirmed);
-                        }
+                    CellContent content = index[day][r];
+                    if (content.names() != null) {
+                        cell.setCellValue(content.names());
                     }
-                }
-
-                // 주 블록 구분 빈 행
-                if (w < numWeeks - 1) {
-                    Row spacer = sheet.createRow(rowNum++);
-                    spacer.setHeightInPoints(6);
+                    cell.setCellStyle(styles.get(content.style()));
                 }
             }
 
-            // 열 너비
-            sheet.setColumnWidth(0, 2200); // 역할 열
-            for (int c = 1; c <= 7; c++) {
-                sheet.setColumnWidth(c, 3800);
+            // 주 블록 구분 빈 행
+            if (w < numWeeks - 1) {
+                Row spacer = sheet.createRow(rowNum++);
+                spacer.setHeightInPoints(6);
             }
-
-            ByteArrayOutputStream bos = new ByteArrayOutputStream();
-            workbook.write(bos);
-            return bos.toByteArray();
-        } catch (IOException e) {
-            throw new RuntimeException("Excel 생성 중 오류 발생", e);
         }
-    }
-
-    private static class Styles {
-        CellStyle title;
-        CellStyle roleHeader;
-        CellStyle weekdayHeader;
-        CellStyle sunHeader;
-        CellStyle satHeader;
-        CellStyle roleLabel;
-        CellStyle confirmed;
-        CellStyle unconfirmed;
-        CellStyle mixed;
-        CellStyle empty;
-        CellStyle padding;
-    }
-
-    private Styles createStyles(Workbook workbook) {
-        Styles s = new Styles();
-
-        Font boldFont = workbook.createFont();
-        boldFont.setBold(true);
-        boldFont.setFontHeightInPoints((short) 12);
-
-        Font normalFont = workbook.createFont();
-        normalFont.setFontHeightInPoints((short) 10);
-
-        // 타이틀
-        s.title = workbook.createCellStyle();
-        s.title.setFont(boldFont);
-        s.title.setAlignment(HorizontalAlignment.CENTER);
-        s.title.setVerticalAlignment(VerticalAlignment.CENTER);
-        s.title.setFillForegroundColor(IndexedColors.GREY_50_PERCENT.getIndex());
-        s.title.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-        Font whiteFont = workbook.createFont();
-        whiteFont.setBold(true);
-        whiteFont.setColor(IndexedColors.WHITE.getIndex());
-        whiteFont.setFontHeightInPoints((short) 13);
-        s.title.setFont(whiteFont);
-        setBorder(s.title);
 
-        // 역할 헤더 (요일 헤더 행의 첫 칸)
-        s.roleHeader = workbook.createCellStyle();
-        s.roleHeader.setFont(boldFont);
-        s.roleHeader.setAlignment(HorizontalAlignment.CENTER);
-        s.roleHeader.setVerticalAlignment(VerticalAlignment.CENTER);
-        s.roleHeader.setFillForegroundColor(IndexedColors.GREY_25_PERCENT.getIndex());
-        s.roleHeader.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-        setBorder(s.roleHeader);
-
-        // 평일 요일 헤더
-        s.weekdayHeader = workbook.createCellStyle();
-        s.weekdayHeader.setFont(boldFont);
-        s.weekdayHeader.setAlignment(HorizontalAlignment.CENTER);
-        s.weekdayHeader.setVerticalAlignment(VerticalAlignment.CENTER);
-        s.weekdayHeader.setFillForegroundColor(IndexedColors.GREY_25_PERCENT.getIndex());
-        s.weekdayHeader.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-        setBorder(s.weekdayHeader);
-
-        // 일요일 헤더
-        s.sunHeader = workbook.createCellStyle();
-        s.sunHeader.setFont(boldFont);
-        s.sunHeader.setAlignment(HorizontalAlignment.CENTER);
-        s.sunHeader.setVerticalAlignment(VerticalAlignment.CENTER);
-        s.sunHeader.setFillForegroundColor(IndexedColors.ROSE.getIndex());
-        s.sunHeader.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-        setBorder(s.sunHeader);
-
-        // 토요일 헤더
-        s.satHeader = workbook.createCellStyle();
-        s.satHeader.setFont(boldFont);
-        s.satHeader.setAlignment(HorizontalAlignment.CENTER);
-        s.satHeader.setVerticalAlignment(VerticalAlignment.CENTER);
-        s.satHeader.setFillForegroundColor(IndexedColors.LIGHT_BLUE.getIndex());
-        s.satHeader.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-        setBorder(s.satHeader);
-
-        // 역할 레이블 (데이터 행의 첫 칸)
-        s.roleLabel = workbook.createCellStyle();
-        s.roleLabel.setFont(boldFont);
-        s.roleLabel.setAlignment(HorizontalAlignment.CENTER);
-        s.roleLabel.setVerticalAlignment(VerticalAlignment.CENTER);
-        s.roleLabel.setFillForegroundColor(IndexedColors.LEMON_CHIFFON.getIndex());
-        s.roleLabel.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-        setBorder(s.roleLabel);
-
-        // 확정 인원 (연초록)
-        s.confirmed = workbook.createCellStyle();
-        s.confirmed.setFont(normalFont);
-        s.confirmed.setAlignment(HorizontalAlignment.CENTER);
-        s.confirmed.setVerticalAlignment(VerticalAlignment.CENTER);
-        s.confirmed.setWrapText(true);
-        s.confirmed.setFillForegroundColor(IndexedColors.LIGHT_GREEN.getIndex());
-        s.confirmed.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-        setBorder(s.confirmed);
-
-        // 미확정 인원 (연노랑)
-        s.unconfirmed = workbook.createCellStyle();
-        s.unconfirmed.setFont(normalFont);
-        s.unconfirmed.setAlignment(HorizontalAlignment.CENTER);
-        s.unconfirmed.setVerticalAlignment(VerticalAlignment.CENTER);
-        s.unconfirmed.setWrapText(true);
-        s.unconfirmed.setFillForegroundColor(IndexedColors.YELLOW.getIndex());
-        s.unconfirmed.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-        setBorder(s.unconfirmed);
-
-        // 혼재 (확정+미확정)
-        s.mixed = workbook.createCellStyle();
-        s.mixed.setFont(normalFont);
-        s.mixed.setAlignment(HorizontalAlignment.CENTER);
-        s.mixed.setVerticalAlignment(VerticalAlignment.CENTER);
-        s.mixed.setWrapText(true);
-        s.mixed.setFillForegroundColor(IndexedColors.LIGHT_YELLOW.getIndex());
-        s.mixed.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-        setBorder(s.mixed);
-
-        // 빈 셀
-        s.empty = workbook.createCellStyle();
-        s.empty.setFont(normalFont);
-        s.empty.setAlignment(HorizontalAlignment.CENTER);
-        s.empty.setVerticalAlignment(VerticalAlignment.CENTER);
-        setBorder(s.empty);
-
-        // 패딩 셀 (해당 월 외)
-        s.padding = workbook.createCellStyle();
-        s.padding.setFillForegroundColor(IndexedColors.GREY_25_PERCENT.getIndex());
-        s.padding.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-        setBorder(s.padding);
-
-        return s;
-    }
-
-    private void setBorder(CellStyle style) {
-        style.setBorderTop(BorderStyle.THIN);
-        style.setBorderBottom(BorderStyle.THIN);
-        style.setBorderLeft(BorderStyle.THIN);
-        style.setBorderRight(BorderStyle.THIN);
+        // 열 너비
+        sheet.setColumnWidth(0, 2200); // 역할 열
+        for (int c = 1; c <= 7; c++) {
+            sheet.setColumnWidth(c, 3800);
+        }
     }
 }
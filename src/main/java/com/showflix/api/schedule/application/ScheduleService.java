@@ -1,6 +1,6 @@
 package com.showflix.api.schedule.application;
 
-import com.showflix.api.auth.domain.User;
+import com.showflix.api.auth.domain.UserDirectory;
 import com.showflix.api.auth.domain.UserRepository;
 import com.showflix.api.schedule.application.command.DeleteScheduleCommand;
 import com.showflix.api.schedule.application.command.SaveScheduleCommand;
@@ -12,15 +12,16 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.format.TextStyle;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -29,6 +30,8 @@ import java.util.stream.Collectors;
 @Service
 public class ScheduleService {
 
+    private static final String[] DAY_OF_WEEK_KR = {"월", "화", "수", "목", "금", "토", "일"};
+
     private final ScheduleRepository scheduleRepository;
     private final UserRepository userRepository;
 
@@ -41,81 +44,86 @@ public class ScheduleService {
     /**
      * 유스케이스 1: 월별 스케줄 테이블 조회
      * 행: 날짜, 열: 배우명, 값: 근무시간
+     * - 배우명 → 열 번호로 변환한 double[일][배우] 그리드에 적재 후 행/열/전체 합계를 한 번에 계산
+     * - 행별 actorHours는 그리드 행을 감싼 읽기 전용 Map (행마다 해시 맵을 만들지 않음)
      */
     @Transactional(readOnly = true)
     public ScheduleTableResult getScheduleTable(ScheduleTableQueryCommand command) {
-        List<String> actorNames = userRepository.findActors()
+        List<String> actorNames = userRepository.directory().nonAdmins()
                 .stream()
-                .map(User::getUsername)
+                .map(UserDirectory.Entry::username)
                 .collect(Collectors.toList());
 
-        List<Schedule> schedules = scheduleRepository.findByYearAndMonth(
-                command.year(), command.month());
+        LocalDate monthStart = LocalDate.of(command.year(), command.month(), 1);
+        int daysInMonth = monthStart.lengthOfMonth();
+        List<Schedule> schedules = scheduleRepository.findByDateRange(
+                monthStart.toString(), monthStart.plusMonths(1).toString());
+
+        // 배우명 → 열 번호 (중복 이름은 첫 열로)
+        Map<String, Integer> actorIndex = new HashMap<>(actorNames.size() * 2);
+        List<String> columns = new ArrayList<>(actorNames.size());
+        for (String actor : actorNames) {
+            if (actorIndex.putIfAbsent(actor, columns.size()) == null) {
+                columns.add(actor);
+            }
+        }
+        int actorCount = columns.size();
 
-        // date → (username → hours) 맵으로 그룹화
-        Map<String, Map<String, Double>> dateActorHoursMap = new LinkedHashMap<>();
-        Map<String, String> dateRemarksMap = new HashMap<>();
+        // [일-1][열] 근무시간 + 일별 특이사항 (date = YYYY-MM-DD)
+        double[][] grid = new double[daysInMonth][actorCount];
+        String[] remarks = new String[daysInMonth];
         for (Schedule s : schedules) {
-            dateActorHoursMap
-                    .computeIfAbsent(s.getDate(), k -> new HashMap<>())
-                    .put(s.getUsername(), s.getHours() != null ? s.getHours() : 0.0);
+            int day = Integer.parseInt(s.getDate().substring(8, 10)) - 1;
             if (s.getRemarks() != null && !s.getRemarks().isBlank()) {
-                dateRemarksMap.put(s.getDate(), s.getRemarks());
+                remarks[day] = s.getRemarks();
+            }
+            Integer col = actorIndex.get(s.getUsername());
+            if (col != null) {
+                grid[day][col] = s.getHours() != null ? s.getHours() : 0.0;
             }
         }
 
-        LocalDate startDate = LocalDate.of(command.year(), command.month(), 1);
-        int daysInMonth = startDate.lengthOfMonth();
-
-        Map<String, Double> columnTotals = new LinkedHashMap<>();
-        for (String actor : actorNames) {
-            columnTotals.put(actor, 0.0);
-        }
+        double[] columnTotals = new double[actorCount];
         double grandTotal = 0.0;
 
-        List<ScheduleRowResult> rows = new ArrayList<>();
-        for (int day = 1; day <= daysInMonth; day++) {
-            LocalDate date = LocalDate.of(command.year(), command.month(), day);
-            String dateStr = date.toString();
-            String dayOfWeek = date.getDayOfWeek()
-                    .getDisplayName(TextStyle.SHORT, Locale.KOREAN);
-
-            Map<String, Double> actorHoursOnDate =
-                    dateActorHoursMap.getOrDefault(dateStr, Collections.emptyMap());
-
-            Map<String, String> actorHoursDisplay = new LinkedHashMap<>();
+        List<ScheduleRowResult> rows = new ArrayList<>(daysInMonth);
+        for (int day = 0; day < daysInMonth; day++) {
+            LocalDate date = monthStart.plusDays(day);
+            double[] hours = grid[day];
+            String[] display = new String[actorCount];
             double rowTotal = 0.0;
-            for (String actor : actorNames) {
-                Double h = actorHoursOnDate.get(actor);
-                if (h != null && h > 0) {
-                    actorHoursDisplay.put(actor, formatHours(h));
+            for (int col = 0; col < actorCount; col++) {
+                double h = hours[col];
+                if (h > 0) {
+                    display[col] = formatHours(h);
                     rowTotal += h;
-                    columnTotals.merge(actor, h, Double::sum);
-                    grandTotal += h;
+                    columnTotals[col] += h;
                 } else {
-                    actorHoursDisplay.put(actor, "");
+                    display[col] = "";
                 }
             }
+            grandTotal += rowTotal;
 
             rows.add(new ScheduleRowResult(
-                    dateStr,
-                    dayOfWeek,
-                    actorHoursDisplay,
+                    date.toString(),
+                    DAY_OF_WEEK_KR[date.getDayOfWeek().getValue() - 1],
+                    new ColumnMap(columns, actorIndex, display),
                     formatHours(rowTotal),
-                    dateRemarksMap.getOrDefault(dateStr, "")
+                    remarks[day] != null ? remarks[day] : ""
             ));
         }
 
-        Map<String, String> columnTotalsDisplay = new LinkedHashMap<>();
-        columnTotals.forEach((actor, total) ->
-                columnTotalsDisplay.put(actor, formatHours(total)));
+        String[] columnTotalsDisplay = new String[actorCount];
+        for (int col = 0; col < actorCount; col++) {
+            columnTotalsDisplay[col] = formatHours(columnTotals[col]);
+        }
 
         return new ScheduleTableResult(
                 command.year(),
                 command.month(),
                 actorNames,
                 rows,
-                columnTotalsDisplay,
+                new ColumnMap(columns, actorIndex, columnTotalsDisplay),
                 formatHours(grandTotal)
         );
     }
@@ -218,6 +226,68 @@ public class ScheduleService {
         public String getRemarks() { return remarks; }
     }
 
+    /**
+     * 열 이름 → 값 읽기 전용 Map (그리드 한 행을 열 순서대로 노출)
+     * 열 이름/번호 맵은 모든 행이 공유
+     */
+    private static final class ColumnMap extends AbstractMap<String, String> {
+        private final List<String> columns;
+        private final Map<String, Integer> index;
+        private final String[] values;
+
+        ColumnMap(List<String> columns, Map<String, Integer> index, String[] values) {
+            this.columns = columns;
+            this.index = index;
+            this.values = values;
+        }
+
+        @Override
+        public String get(Object key) {
+            Integer col = index.get(key);
+            return col != null ? values[col] : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return index.containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+
+        @Override
+        public Set<Entry<String, String>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<String, String>> iterator() {
+                    return new Iterator<>() {
+                        private int col;
+
+                        @Override
+                        public boolean hasNext() {
+                            return col < values.length;
+                        }
+
+                        @Override
+                        public Entry<String, String> next() {
+                            if (col >= values.length) throw new NoSuchElementException();
+                            Entry<String, String> e = new SimpleImmutableEntry<>(columns.get(col), values[col]);
+                            col++;
+                            return e;
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return values.length;
+                }
+            };
+        }
+    }
+
     // --- private 헬퍼 ---
 
     private String formatHours(double hours) {
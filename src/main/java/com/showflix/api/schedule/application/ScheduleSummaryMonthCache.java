@@ -0,0 +1,159 @@
+package com.showflix.api.schedule.application;
+
+import com.showflix.api.schedule.domain.ScheduleSummary;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Application Layer - 출근시간 월별 그리드 캐시 (프로세스 내)
+ * - (year, month) 단위로 조립된 MonthResult 보관, 최대 maxMonths개월 LRU
+ * - saveBulk 커밋 후 변경된 셀만 반영 (월 전체 무효화 X)
+ * - 계정 생성/수정/삭제 시 전체 무효화 (AdminUserService)
+ * - 캐시된 MonthResult는 공유 객체이므로 수정하지 않고 복사본으로 교체 (copy-on-write)
+ */
+@Component
+public class ScheduleSummaryMonthCache {
+
+    private record Entry(ScheduleSummaryService.MonthResult result, long loadedAt) {}
+
+    private final int maxMonths;
+    private final long ttlMillis;
+    private final Map<YearMonth, Entry> entries;
+
+    // 쓰기 발생 시 증가 — 쓰기 이전에 시작된 조회 결과가 패치된 캐시를 덮어쓰지 않도록 함
+    private long generation;
+
+    public ScheduleSummaryMonthCache(
+            @Value("${showflix.cache.schedule-summary.max-months:24}") int maxMonths,
+            @Value("${showflix.cache.schedule-summary.ttl:10m}") Duration ttl) {
+        this.maxMonths = maxMonths;
+        this.ttlMillis = ttl.toMillis();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<YearMonth, Entry> eldest) {
+                return size() > ScheduleSummaryMonthCache.this.maxMonths;
+            }
+        };
+    }
+
+    public synchronized ScheduleSummaryService.MonthResult get(YearMonth yearMonth) {
+        Entry entry = entries.get(yearMonth);
+        if (entry == null) return null;
+        // TTL: 이 프로세스를 거치지 않은 변경(직접 DB 수정 등) 반영 지연 상한
+        if (System.currentTimeMillis() - entry.loadedAt() > ttlMillis) {
+            entries.remove(yearMonth);
+            return null;
+        }
+        return entry.result();
+    }
+
+    public synchronized long generation() {
+        return generation;
+    }
+
+    /** 조회 시작 이후 쓰기가 없었던 경우에만 저장 */
+    public synchronized void putIfUnchanged(YearMonth yearMonth, ScheduleSummaryService.MonthResult result,
+                                            long expectedGeneration) {
+        if (generation == expectedGeneration) {
+            entries.put(yearMonth, new Entry(result, System.currentTimeMillis()));
+        }
+    }
+
+    public synchronized void invalidateAll() {
+        generation++;
+        entries.clear();
+    }
+
+    /**
+     * 저장된 셀을 캐시된 월 데이터에 반영
+     * 캐시에 없는 월은 무시 (다음 조회 시 DB에서 로딩)
+     */
+    public synchronized void patch(List<ScheduleSummary> saved) {
+        generation++;
+        Map<YearMonth, List<ScheduleSummary>> byMonth = new LinkedHashMap<>();
+        for (ScheduleSummary s : saved) {
+            YearMonth yearMonth;
+            try {
+                yearMonth = YearMonth.parse(s.getDate().substring(0, 7));
+            } catch (RuntimeException e) {
+                // 날짜 형식을 알 수 없으면 어느 월에 속하는지 판단 불가 → 전체 무효화
+                entries.clear();
+                return;
+            }
+            byMonth.computeIfAbsent(yearMonth, k -> new ArrayList<>()).add(s);
+        }
+
+        byMonth.forEach((yearMonth, cells) -> {
+            Entry entry = entries.get(yearMonth);
+            if (entry == null) return;
+            ScheduleSummaryService.MonthResult patched = applyCells(entry.result(), cells);
+            if (patched == null) {
+                entries.remove(yearMonth);
+            } else {
+                entries.put(yearMonth, new Entry(patched, entry.loadedAt()));
+            }
+        });
+    }
+
+    /**
+     * 셀 반영 (행 분류는 getMonthData 조립과 같은 SummaryRowKind)
+     * 월 단위로 맵을 한 번만 복사한 뒤 변경 셀 적용
+     * @return 패치된 복사본, 캐시로 재현할 수 없는 경우 null (해당 월 무효화)
+     */
+    private ScheduleSummaryService.MonthResult applyCells(ScheduleSummaryService.MonthResult r,
+                                                          List<ScheduleSummary> cells) {
+        Map<String, Map<String, String>> data = new LinkedHashMap<>(r.data());
+        Map<String, String> staffRemarks = new LinkedHashMap<>(r.staffRemarks());
+        Map<String, String> actorRemarks = new LinkedHashMap<>(r.actorRemarks());
+        Set<String> copiedUsers = new HashSet<>();
+
+        for (ScheduleSummary s : cells) {
+            String userId = s.getUserId();
+            String date = s.getDate();
+
+            switch (SummaryRowKind.of(s)) {
+                case STAFF_REMARKS -> {
+                    // 지우는 경우 기존 __remarks__ 값으로 폴백될 수 있으므로 재로딩
+                    if (!SummaryRowKind.hasRemarks(s)) return null;
+                    staffRemarks.put(date, s.getRemarks());
+                }
+                case ACTOR_REMARKS -> {
+                    if (SummaryRowKind.hasRemarks(s)) {
+                        actorRemarks.put(date, s.getRemarks());
+                    } else {
+                        actorRemarks.remove(date);
+                    }
+                }
+                case LEGACY_STAFF_REMARKS -> {
+                    return null;
+                }
+                case HOURS -> userCells(data, copiedUsers, userId).put(date, s.getHours());
+                case NO_HOURS -> userCells(data, copiedUsers, userId).remove(date);
+            }
+        }
+        data.values().removeIf(Map::isEmpty);
+
+        return new ScheduleSummaryService.MonthResult(r.year(), r.month(), r.daysInMonth(),
+                r.staffUsers(), r.actorUsers(), data, staffRemarks, actorRemarks);
+    }
+
+    // 사용자별 내부 맵은 처음 변경될 때만 복사
+    private static Map<String, String> userCells(Map<String, Map<String, String>> data, Set<String> copiedUsers,
+                                                 String userId) {
+        Map<String, String> userCells = data.get(userId);
+        if (copiedUsers.add(userId)) {
+            userCells = userCells == null ? new LinkedHashMap<>() : new LinkedHashMap<>(userCells);
+            data.put(userId, userCells);
+        }
+        return userCells;
+    }
+}
@@ -1,13 +1,17 @@
 package com.showflix.api.schedule.application;
 
-import com.showflix.api.auth.domain.User;
+import com.showflix.api.auth.domain.AccountType;
+import com.showflix.api.auth.domain.UserDirectory;
 import com.showflix.api.auth.domain.UserRepository;
+import com.showflix.api.common.AfterCommit;
+import com.showflix.api.common.MonthVersions;
 import com.showflix.api.schedule.domain.ScheduleSummary;
 import com.showflix.api.schedule.domain.ScheduleSummaryRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -17,12 +21,22 @@ import java.util.stream.Collectors;
 @Service
 public class ScheduleSummaryService {
 
+    // 그룹별 특이사항 저장용 가상 user_id
+    static final String REMARKS_STAFF = "__remarks_STAFF__";
+    static final String REMARKS_ACTOR = "__remarks_ACTOR__";
+    static final String REMARKS_LEGACY = "__remarks__";
+
     private final ScheduleSummaryRepository repository;
     private final UserRepository userRepository;
+    private final ScheduleSummaryMonthCache monthCache;
+    private final MonthVersions monthVersions;
 
-    public ScheduleSummaryService(ScheduleSummaryRepository repository, UserRepository userRepository) {
+    public ScheduleSummaryService(ScheduleSummaryRepository repository, UserRepository userRepository,
+                                  ScheduleSummaryMonthCache monthCache, MonthVersions monthVersions) {
         this.repository = repository;
         this.userRepository = userRepository;
+        this.monthCache = monthCache;
+        this.monthVersions = monthVersions;
     }
 
     /**
@@ -41,73 +55,184 @@ public class ScheduleSummaryService {
 
     public record UserInfo(String userId, String userName, String accountType) {}
 
+    /**
+     * 월별 조회 원본 행 (compact 응답용 - userId → date 중첩 맵을 만들지 않음)
+     * - hours: 출근 셀 행만 (미출근/특이사항 가상 행 제외, 조회 순)
+     * - staffRemarks/actorRemarks: 일자 순 목록 (인덱스 = 일 - 1, 없으면 null)
+     */
+    public record MonthRows(
+            int year,
+            int month,
+            int daysInMonth,
+            List<UserInfo> staffUsers,
+            List<UserInfo> actorUsers,
+            List<ScheduleSummary> hours,
+            List<String> staffRemarks,
+            List<String> actorRemarks
+    ) {}
+
+    /**
+     * 월별 데이터 ETag (DB 조회 없이 계산)
+     * @param format 응답 형식 구분값 (기본 JSON은 빈 문자열) - 형식별 본문이 다르므로 ETag도 구분
+     */
+    public String monthETag(int year, int month, String format) {
+        return monthVersions.etag(MonthVersions.Scope.SCHEDULE_SUMMARY, YearMonth.of(year, month), format);
+    }
+
     /**
      * 월별 전체 출근시간 데이터 조회
      * - ACTOR, STAFF 유형만 포함
      * - 데이터가 없는 셀은 data 맵에 포함하지 않음 (프론트에서 '-' 처리)
+     * - 월별 캐시 우선 조회 (캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션 미적용)
      */
-    @Transactional(readOnly = true)
     public MonthResult getMonthData(int year, int month) {
+        YearMonth yearMonth = YearMonth.of(year, month);
+        MonthResult cached = monthCache.get(yearMonth);
+        if (cached != null) {
+            return cached;
+        }
+        long generation = monthCache.generation();
+        MonthResult loaded = loadMonthData(year, month);
+        monthCache.putIfUnchanged(yearMonth, loaded, generation);
+        return loaded;
+    }
+
+    /**
+     * 연간 출근시간 데이터 조회 (1~12월)
+     * - 사용자 목록 1회 + 연 범위 쿼리 1회로 12개월 결과 조립
+     * - 조립한 월 결과는 월별 캐시에도 적재
+     */
+    public List<MonthResult> getYearData(int year) {
+        long generation = monthCache.generation();
+        UserGroups users = loadUsers();
+
+        LocalDate start = LocalDate.of(year, 1, 1);
+        LocalDate end = LocalDate.of(year, 12, 31);
+        List<ScheduleSummary> summaries = repository.findByMonth(start.toString(), end.toString());
+
+        // 월별 분배 (date = YYYY-MM-DD)
+        List<List<ScheduleSummary>> byMonth = new ArrayList<>(12);
+        for (int m = 0; m < 12; m++) {
+            byMonth.add(new ArrayList<>());
+        }
+        for (ScheduleSummary s : summaries) {
+            byMonth.get(Integer.parseInt(s.getDate().substring(5, 7)) - 1).add(s);
+        }
+
+        List<MonthResult> results = new ArrayList<>(12);
+        for (int m = 1; m <= 12; m++) {
+            MonthResult result = assemble(year, m, users, byMonth.get(m - 1));
+            monthCache.putIfUnchanged(YearMonth.of(year, m), result, generation);
+            results.add(result);
+        }
+        return results;
+    }
+
+    /**
+     * 월별 출근시간 원본 행 조회 (compact 응답용)
+     * - getMonthData와 같은 규칙 (특이사항 가상 행 분리, 기존 __remarks__는 스탭 특이사항으로 폴백)
+     * - 월별 캐시 미사용 (변경 없는 재조회는 ETag 304로 처리)
+     */
+    public MonthRows getMonthRows(int year, int month) {
         LocalDate start = LocalDate.of(year, month, 1);
         LocalDate end = start.withDayOfMonth(start.lengthOfMonth());
 
-        // ACTOR, STAFF 유형 직원만 필터링, 그룹별 분리 후 username 정렬
-        List<UserInfo> allUsers = userRepository.findAll().stream()
-                .filter(u -> "ACTOR".equals(u.getAccountType()) || "STAFF".equals(u.getAccountType()))
-                .sorted(Comparator.comparing(User::getUsername))
-                .map(u -> new UserInfo(u.getUserid(), u.getUsername(), u.getAccountType()))
-                .collect(Collectors.toList());
+        UserGroups users = loadUsers();
+        List<ScheduleSummary> summaries = repository.findByMonth(start.toString(), end.toString());
+
+        List<ScheduleSummary> hours = new ArrayList<>(summaries.size());
+        String[] staffRemarks = new String[end.getDayOfMonth()];
+        String[] actorRemarks = new String[end.getDayOfMonth()];
+        for (ScheduleSummary s : summaries) {
+            switch (SummaryRowKind.of(s)) {
+                case HOURS -> hours.add(s);
+                case STAFF_REMARKS -> {
+                    if (SummaryRowKind.hasRemarks(s)) staffRemarks[dayIndex(s)] = s.getRemarks();
+                }
+                case ACTOR_REMARKS -> {
+                    if (SummaryRowKind.hasRemarks(s)) actorRemarks[dayIndex(s)] = s.getRemarks();
+                }
+                case LEGACY_STAFF_REMARKS -> {
+                    if (SummaryRowKind.hasRemarks(s) && staffRemarks[dayIndex(s)] == null) {
+                        staffRemarks[dayIndex(s)] = s.getRemarks();
+                    }
+                }
+                case NO_HOURS -> {}
+            }
+        }
+        return new MonthRows(year, month, end.getDayOfMonth(), users.staffUsers(), users.actorUsers(),
+                hours, Arrays.asList(staffRemarks), Arrays.asList(actorRemarks));
+    }
 
-        List<UserInfo> staffUsers = allUsers.stream()
-                .filter(u -> "STAFF".equals(u.accountType()))
-                .collect(Collectors.toList());
-        List<UserInfo> actorUsers = allUsers.stream()
-                .filter(u -> "ACTOR".equals(u.accountType()))
-                .collect(Collectors.toList());
+    // date = YYYY-MM-DD → 0부터 시작하는 일 인덱스
+    private static int dayIndex(ScheduleSummary s) {
+        return Integer.parseInt(s.getDate().substring(8, 10)) - 1;
+    }
+
+    private MonthResult loadMonthData(int year, int month) {
+        LocalDate start = LocalDate.of(year, month, 1);
+        LocalDate end = start.withDayOfMonth(start.lengthOfMonth());
+
+        UserGroups users = loadUsers();
 
         // 해당 월 schedule_summary 데이터 조회
         List<ScheduleSummary> summaries = repository.findByMonth(start.toString(), end.toString());
 
+        return assemble(year, month, users, summaries);
+    }
+
+    private record UserGroups(List<UserInfo> staffUsers, List<UserInfo> actorUsers) {}
+
+    private UserGroups loadUsers() {
+        // ACTOR, STAFF 유형 직원만 (스냅샷이 유형별 분리 + username 정렬 상태로 보관)
+        UserDirectory directory = userRepository.directory();
+        return new UserGroups(toUserInfo(directory.byAccountType(AccountType.STAFF)),
+                toUserInfo(directory.byAccountType(AccountType.ACTOR)));
+    }
+
+    private static List<UserInfo> toUserInfo(List<UserDirectory.Entry> entries) {
+        List<UserInfo> users = new ArrayList<>(entries.size());
+        for (UserDirectory.Entry e : entries) {
+            users.add(new UserInfo(e.userid(), e.username(), e.accountType()));
+        }
+        return users;
+    }
+
+    private static MonthResult assemble(int year, int month, UserGroups users, List<ScheduleSummary> summaries) {
         // userId -> (date -> hours) 맵 구성 + 그룹별 특이사항 추출
         Map<String, Map<String, String>> data = new LinkedHashMap<>();
         Map<String, String> staffRemarks = new LinkedHashMap<>();
         Map<String, String> actorRemarks = new LinkedHashMap<>();
         for (ScheduleSummary s : summaries) {
-            // 그룹별 특이사항
-            if ("__remarks_STAFF__".equals(s.getUserId())) {
-                if (s.getRemarks() != null && !s.getRemarks().isBlank()) {
-                    staffRemarks.put(s.getDate(), s.getRemarks());
+            switch (SummaryRowKind.of(s)) {
+                case HOURS -> data.computeIfAbsent(s.getUserId(), k -> new LinkedHashMap<>())
+                        .put(s.getDate(), s.getHours());
+                case STAFF_REMARKS -> {
+                    if (SummaryRowKind.hasRemarks(s)) staffRemarks.put(s.getDate(), s.getRemarks());
                 }
-                continue;
-            }
-            if ("__remarks_ACTOR__".equals(s.getUserId())) {
-                if (s.getRemarks() != null && !s.getRemarks().isBlank()) {
-                    actorRemarks.put(s.getDate(), s.getRemarks());
+                case ACTOR_REMARKS -> {
+                    if (SummaryRowKind.hasRemarks(s)) actorRemarks.put(s.getDate(), s.getRemarks());
                 }
-                continue;
-            }
-            // 기존 __remarks__ 데이터 호환: 스탭 특이사항으로 폴백
-            if ("__remarks__".equals(s.getUserId())) {
-                if (s.getRemarks() != null && !s.getRemarks().isBlank()) {
-                    staffRemarks.putIfAbsent(s.getDate(), s.getRemarks());
+                case LEGACY_STAFF_REMARKS -> {
+                    if (SummaryRowKind.hasRemarks(s)) staffRemarks.putIfAbsent(s.getDate(), s.getRemarks());
                 }
-                continue;
-            }
-            // hours 맵
-            if (s.getHours() != null && !s.getHours().isBlank() && !"0".equals(s.getHours())) {
-                data.computeIfAbsent(s.getUserId(), k -> new LinkedHashMap<>())
-                    .put(s.getDate(), s.getHours());
+                case NO_HOURS -> {}
             }
         }
 
-        return new MonthResult(year, month, end.getDayOfMonth(), staffUsers, actorUsers, data, staffRemarks, actorRemarks);
+        return new MonthResult(year, month, YearMonth.of(year, month).lengthOfMonth(),
+                users.staffUsers(), users.actorUsers(), data, staffRemarks, actorRemarks);
     }
 
     /**
      * 출근시간 일괄 저장 (변경된 셀만)
+     * - 청크 단위 multi-VALUES upsert (셀 단위 왕복 X)
+     * - 커밋 후 월별 캐시에 변경 셀만 반영
      */
     @Transactional
     public void saveBulk(List<SaveItem> items) {
+        if (items == null || items.isEmpty()) return;
+        List<ScheduleSummary> saved = new ArrayList<>(items.size());
         for (SaveItem item : items) {
             ScheduleSummary summary = new ScheduleSummary();
             summary.setUserId(item.userId());
@@ -115,8 +240,11 @@ public class ScheduleSummaryService {
             // hours가 null/빈값이면 "0" 저장
             summary.setHours((item.hours() == null || item.hours().isBlank()) ? "0" : item.hours());
             summary.setRemarks(item.remarks());
-            repository.upsert(summary);
+            saved.add(summary);
+            monthVersions.touch(MonthVersions.Scope.SCHEDULE_SUMMARY, item.date());
         }
+        repository.upsertAll(saved);
+        AfterCommit.run(() -> monthCache.patch(saved));
     }
 
     /**
@@ -1,16 +1,24 @@
 package com.showflix.api.schedule.application;
 
+import com.showflix.api.auth.domain.UserRepository;
+import com.showflix.api.common.MonthVersions;
 import com.showflix.api.schedule.application.command.ConfirmAllCommand;
 import com.showflix.api.schedule.application.command.ConfirmScheduleCommand;
 import com.showflix.api.schedule.application.command.SaveTimeSlotCommand;
+import com.showflix.api.schedule.application.event.CalendarChangeEvent;
 import com.showflix.api.schedule.domain.ScheduleTimeSlot;
 import com.showflix.api.schedule.domain.ScheduleTimeSlotRepository;
+import com.showflix.api.schedule.domain.SelectedDate;
 import com.showflix.api.schedule.domain.SelectedDateRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
@@ -18,11 +26,20 @@ public class ScheduleTimeSlotService {
 
     private final ScheduleTimeSlotRepository timeSlotRepository;
     private final SelectedDateRepository selectedDateRepository;
+    private final UserRepository userRepository;
+    private final MonthVersions monthVersions;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ScheduleTimeSlotService(ScheduleTimeSlotRepository timeSlotRepository,
-                                   SelectedDateRepository selectedDateRepository) {
+                                   SelectedDateRepository selectedDateRepository,
+                                   UserRepository userRepository,
+                                   MonthVersions monthVersions,
+                                   ApplicationEventPublisher eventPublisher) {
         this.timeSlotRepository = timeSlotRepository;
         this.selectedDateRepository = selectedDateRepository;
+        this.userRepository = userRepository;
+        this.monthVersions = monthVersions;
+        this.eventPublisher = eventPublisher;
     }
 
     /** 특정 날짜의 시간표 조회 */
@@ -33,7 +50,10 @@ public class ScheduleTimeSlotService {
 
     /**
      * 시간표 저장 (배치)
-     * 삭제 전 기존 confirmed 상태를 보존하고 재삽입 시 복원
+     * 기존 슬롯과 비교하여 필요한 변경만 반영
+     * - 신규/테마·출연자 변경 슬롯: multi-VALUES upsert 1건 (기존 confirmed 유지, 신규는 'N')
+     * - 목록에서 빠진 슬롯: DELETE 1건
+     * - 변경 없는 슬롯은 쓰지 않음 (변경이 전혀 없으면 이벤트도 발행하지 않음)
      */
     @Transactional
     public void saveTimeSlots(List<SaveTimeSlotCommand> commands) {
@@ -41,54 +61,96 @@ public class ScheduleTimeSlotService {
 
         String date = commands.get(0).scheduleDate();
 
-        // 기존 확정 상태 조회 → Map으로 보존
-        Map<String, String> existingConfirmed = timeSlotRepository
+        Map<String, ScheduleTimeSlot> existing = timeSlotRepository
                 .findByScheduleDate(date).stream()
-                .collect(Collectors.toMap(
-                        ScheduleTimeSlot::getTimeSlot,
-                        ScheduleTimeSlot::getConfirmed,
-                        (a, b) -> a
-                ));
-
-        timeSlotRepository.deleteByScheduleDate(date);
+                .collect(Collectors.toMap(ScheduleTimeSlot::getTimeSlot, s -> s, (a, b) -> a));
 
+        // 같은 시간이 여러 번 오면 마지막 항목 적용 (요청 순서 유지)
+        Map<String, SaveTimeSlotCommand> requested = new LinkedHashMap<>();
         for (SaveTimeSlotCommand cmd : commands) {
+            requested.put(cmd.timeSlot(), cmd);
+        }
+
+        List<ScheduleTimeSlot> saved = new ArrayList<>(requested.size());
+        List<ScheduleTimeSlot> changed = new ArrayList<>();
+        for (SaveTimeSlotCommand cmd : requested.values()) {
+            ScheduleTimeSlot current = existing.get(cmd.timeSlot());
+            if (current != null && Objects.equals(current.getTheme(), cmd.theme())
+                    && Objects.equals(current.getPerformer(), cmd.performer())) {
+                saved.add(current);
+                continue;
+            }
             ScheduleTimeSlot slot = new ScheduleTimeSlot();
-            slot.setScheduleDate(cmd.scheduleDate());
+            slot.setScheduleDate(date);
             slot.setTimeSlot(cmd.timeSlot());
             slot.setTheme(cmd.theme());
             slot.setPerformer(cmd.performer());
-            // 기존 확정 상태 복원 (없으면 'N')
-            slot.setConfirmed(existingConfirmed.getOrDefault(cmd.timeSlot(), "N"));
-            timeSlotRepository.save(slot);
+            slot.setConfirmed(current != null ? current.getConfirmed() : "N");
+            changed.add(slot);
+            saved.add(slot);
+        }
+        boolean removed = !requested.keySet().containsAll(existing.keySet());
+
+        if (removed) {
+            timeSlotRepository.deleteByScheduleDateExcept(date, new ArrayList<>(requested.keySet()));
+        }
+        if (!changed.isEmpty()) {
+            timeSlotRepository.upsertAll(changed);
+        }
+        if (removed || !changed.isEmpty()) {
+            eventPublisher.publishEvent(CalendarChangeEvent.timeSlotsSaved(date, saved));
         }
     }
 
     /**
      * 통합 확정: 시간표 저장 + 역할/비고 저장 + 확정 처리 (단일 트랜잭션)
+     * 슬롯·인원 수와 무관하게 문장 수 고정 (슬롯 있음 3건 / 없음 2건, 슬롯 청크 초과분 제외)
+     * 역할 항목이 있으면 최근 역할 투영 갱신 1건 추가
      */
     @Transactional
     public void confirmAll(ConfirmAllCommand cmd) {
         String date = cmd.date();
+        String confirmed = "Y";
 
-        // 1. 시간표 슬롯 저장
+        // 1. 시간표: 목록에 없는 슬롯 삭제 + multi-VALUES upsert (확정 상태로 바로 저장)
         if (cmd.slots() != null && !cmd.slots().isEmpty()) {
-            List<SaveTimeSlotCommand> slotCommands = cmd.slots().stream()
-                    .map(s -> new SaveTimeSlotCommand(date, s.timeSlot(), s.theme(), s.performer()))
-                    .toList();
-            saveTimeSlots(slotCommands);
+            List<ScheduleTimeSlot> slots = new ArrayList<>(cmd.slots().size());
+            for (ConfirmAllCommand.SlotItem item : cmd.slots()) {
+                ScheduleTimeSlot slot = new ScheduleTimeSlot();
+                slot.setScheduleDate(date);
+                slot.setTimeSlot(item.timeSlot());
+                slot.setTheme(item.theme());
+                slot.setPerformer(item.performer());
+                slot.setConfirmed(confirmed);
+                slots.add(slot);
+            }
+            timeSlotRepository.deleteByScheduleDateExcept(date,
+                    slots.stream().map(ScheduleTimeSlot::getTimeSlot).distinct().toList());
+            timeSlotRepository.upsertAll(slots);
+            eventPublisher.publishEvent(CalendarChangeEvent.timeSlotsSaved(date, slots));
+        } else {
+            timeSlotRepository.updateConfirmationByDate(date, confirmed);
         }
 
-        // 2. 역할/비고 저장
+        // 2. 역할/비고 + 확정: CASE 단일 UPDATE
+        //    같은 userId가 여러 번 오면 마지막 항목 적용 (기존 건별 UPDATE와 동일)
+        //    변경 이벤트는 DATE_CONFIRMED가 날짜 전체 출근자로 대신함
+        Map<String, SelectedDate> roles = new LinkedHashMap<>();
         if (cmd.roles() != null) {
-            for (ConfirmAllCommand.RoleItem role : cmd.roles()) {
-                selectedDateRepository.updateRoleByDateAndUserId(
-                        date, role.userId(), role.role(), role.remarks());
+            for (ConfirmAllCommand.RoleItem item : cmd.roles()) {
+                SelectedDate role = new SelectedDate();
+                role.setUserId(item.userId());
+                role.setRole(item.role());
+                role.setRemarks(item.remarks());
+                roles.put(item.userId(), role);
             }
         }
+        selectedDateRepository.updateRolesAndConfirmationByDate(date, new ArrayList<>(roles.values()), confirmed);
+        // 역할이 바뀐 사용자의 최근 역할 투영 갱신 (같은 트랜잭션)
+        userRepository.refreshLatestRoles(roles.keySet());
 
-        // 3. 확정 처리
-        confirmSchedule(new ConfirmScheduleCommand(date, "Y"));
+        monthVersions.touch(MonthVersions.Scope.CALENDAR, date);
+        eventPublisher.publishEvent(CalendarChangeEvent.dateConfirmed(date, confirmed));
     }
 
     /**
@@ -100,6 +162,8 @@ public class ScheduleTimeSlotService {
     public void confirmSchedule(ConfirmScheduleCommand cmd) {
         timeSlotRepository.updateConfirmationByDate(cmd.date(), cmd.confirmed());
         selectedDateRepository.updateConfirmationByDate(cmd.date(), cmd.confirmed());
+        monthVersions.touch(MonthVersions.Scope.CALENDAR, cmd.date());
+        eventPublisher.publishEvent(CalendarChangeEvent.dateConfirmed(cmd.date(), cmd.confirmed()));
     }
 
     // ----------------------------------------------------------------
@@ -1,16 +1,21 @@
 package com.showflix.api.schedule.application;
 
+import com.showflix.api.auth.domain.UserRepository;
 import com.showflix.api.auth.infrastructure.security.CustomUserDetails;
+import com.showflix.api.common.MonthVersions;
 import com.showflix.api.schedule.application.command.MonthQueryCommand;
 import com.showflix.api.schedule.application.command.SaveSelectedDatesCommand;
+import com.showflix.api.schedule.application.event.CalendarChangeEvent;
 import com.showflix.api.schedule.domain.SelectedDate;
 import com.showflix.api.schedule.domain.SelectedDateRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -22,17 +27,27 @@ import java.util.Map;
 public class SelectedDateService {
 
     private final SelectedDateRepository selectedDateRepository;
+    private final UserRepository userRepository;
+    private final MonthVersions monthVersions;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public SelectedDateService(SelectedDateRepository selectedDateRepository) {
+    public SelectedDateService(SelectedDateRepository selectedDateRepository, UserRepository userRepository,
+                               MonthVersions monthVersions, ApplicationEventPublisher eventPublisher) {
         this.selectedDateRepository = selectedDateRepository;
+        this.userRepository = userRepository;
+        this.monthVersions = monthVersions;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
      * 선택 날짜 저장
+     * - upsert는 확정 여부를 'N'으로 되돌리므로 기존 상태를 먼저 조회해 이벤트에 포함
+     *   (확정 건이었다면 일반 사용자 화면에서도 빠져야 함)
      */
     @Transactional
     public void saveSelectedDates(SaveSelectedDatesCommand command) {
         List<SelectedDate> list = new ArrayList<>();
+        List<String> previous = new ArrayList<>();
         for (Map.Entry<String, SaveSelectedDatesCommand.DateSelection> e : command.dateSelections().entrySet()) {
             SelectedDate sd = new SelectedDate();
             sd.setDate(e.getKey());
@@ -42,8 +57,28 @@ public class SelectedDateService {
             sd.setOpenHope(e.getValue().openHope());
             sd.setConfirmed("N");
             list.add(sd);
+            previous.add(selectedDateRepository.findConfirmedForUpdate(e.getKey(), command.userId()));
+            monthVersions.touch(MonthVersions.Scope.CALENDAR, e.getKey());
         }
         selectedDateRepository.saveAll(list);
+        if (!list.isEmpty()) userRepository.refreshLatestRoles(List.of(command.userId()));
+        for (int i = 0; i < list.size(); i++) {
+            eventPublisher.publishEvent(CalendarChangeEvent.userAdded(list.get(i), previous.get(i)));
+        }
+    }
+
+    /**
+     * 월별 데이터 ETag (조회 결과가 관리자/본인 여부에 따라 다르므로 사용자 구분 포함)
+     * DB 조회 없이 계산
+     * @param format 응답 형식 구분값 (기본 JSON은 빈 문자열) - 형식별 본문이 다르므로 ETag도 구분
+     */
+    public String monthETag(int year, int month, String format) {
+        String userId = getCurrentUserId();
+        String variant = isCurrentUserAdmin() ? "admin" : (userId != null ? userId : "");
+        if (!format.isEmpty()) {
+            variant = variant.isEmpty() ? format : variant + "-" + format;
+        }
+        return monthVersions.etag(MonthVersions.Scope.CALENDAR, YearMonth.of(year, month), variant);
     }
 
     /**
@@ -71,19 +106,46 @@ public class SelectedDateService {
         return new MonthResult(isAdmin, list);
     }
 
+    /**
+     * 월별 전체 출근일 조회 (권한 필터 없음 - 관리자 전용 내보내기 작업 등 보안 컨텍스트가 없는 호출용)
+     */
+    @Transactional(readOnly = true)
+    public List<SelectedDate> getAllByMonth(int year, int month) {
+        LocalDate start = LocalDate.of(year, month, 1);
+        LocalDate end = start.withDayOfMonth(start.lengthOfMonth());
+        return selectedDateRepository.findByDateBetween(start.toString(), end.toString());
+    }
+
+    /**
+     * 특정 날짜 전체 출근자 조회 (권한 필터 없음 - 호출 측에서 노출 범위 판단)
+     */
+    @Transactional(readOnly = true)
+    public List<SelectedDate> getEntriesByDate(String date) {
+        return selectedDateRepository.findByDateBetween(date, date);
+    }
+
     /**
      * 선택 날짜 단건 삭제
      */
     @Transactional
     public int deleteSelectedDate(String date, String userId) {
-        return selectedDateRepository.deleteByDateAndUserId(date, userId);
+        monthVersions.touch(MonthVersions.Scope.CALENDAR, date);
+        // 확정 건이었다면 일반 사용자 화면에도 보이던 행이므로 전체에 알림
+        String confirmed = selectedDateRepository.findConfirmedForUpdate(date, userId);
+        int deleted = selectedDateRepository.deleteByDateAndUserId(date, userId);
+        if (deleted > 0) {
+            userRepository.refreshLatestRoles(List.of(userId));
+            eventPublisher.publishEvent(CalendarChangeEvent.userRemoved(date, userId, confirmed));
+        }
+        return deleted;
     }
 
     /**
-     * 관리자가 특정 날짜에 사용자 추가 (upsert)
+     * 관리자가 특정 날짜에 사용자 추가 (upsert - 기존 확정 건은 미확정으로 돌아감)
      */
     @Transactional
     public void addUserToDate(String date, String userId, String userName, String role) {
+        String previousConfirmed = selectedDateRepository.findConfirmedForUpdate(date, userId);
         SelectedDate sd = new SelectedDate();
         sd.setDate(date);
         sd.setUserId(userId);
@@ -92,6 +154,9 @@ public class SelectedDateService {
         sd.setOpenHope(false);
         sd.setConfirmed("N");
         selectedDateRepository.saveAll(List.of(sd));
+        userRepository.refreshLatestRoles(List.of(userId));
+        monthVersions.touch(MonthVersions.Scope.CALENDAR, date);
+        eventPublisher.publishEvent(CalendarChangeEvent.userAdded(sd, previousConfirmed));
     }
 
     /**
@@ -99,7 +164,11 @@ public class SelectedDateService {
      */
     @Transactional
     public void updateRoleAndRemarks(String date, String userId, String role, String remarks) {
+        String confirmed = selectedDateRepository.findConfirmedForUpdate(date, userId);
         selectedDateRepository.updateRoleByDateAndUserId(date, userId, role, remarks);
+        userRepository.refreshLatestRoles(List.of(userId));
+        monthVersions.touch(MonthVersions.Scope.CALENDAR, date);
+        eventPublisher.publishEvent(CalendarChangeEvent.roleChanged(date, userId, role, remarks, confirmed));
     }
 
     public static class MonthResult {
@@ -0,0 +1,37 @@
+package com.showflix.api.schedule.application;
+
+import com.showflix.api.schedule.domain.ScheduleSummary;
+
+/**
+ * Application Layer - schedule_summary 행 분류
+ * 월별 조립(getMonthData), compact 행(getMonthRows), 캐시 패치(ScheduleSummaryMonthCache)가 같은 규칙을 쓰도록 한곳에 둠
+ * - 그룹별 특이사항 가상 행 / 기존 __remarks__ 행(스탭 특이사항으로 폴백) / 출근 셀 / 미출근 셀
+ */
+enum SummaryRowKind {
+
+    STAFF_REMARKS,
+    ACTOR_REMARKS,
+    /** 기존 __remarks__ 데이터 - 스탭 특이사항이 없는 날짜에만 스탭 특이사항으로 사용 */
+    LEGACY_STAFF_REMARKS,
+    HOURS,
+    /** hours가 null/빈값/"0" (셀 미표시) */
+    NO_HOURS;
+
+    static SummaryRowKind of(ScheduleSummary s) {
+        String userId = s.getUserId();
+        if (ScheduleSummaryService.REMARKS_STAFF.equals(userId)) return STAFF_REMARKS;
+        if (ScheduleSummaryService.REMARKS_ACTOR.equals(userId)) return ACTOR_REMARKS;
+        if (ScheduleSummaryService.REMARKS_LEGACY.equals(userId)) return LEGACY_STAFF_REMARKS;
+        return hasHours(s.getHours()) ? HOURS : NO_HOURS;
+    }
+
+    /** 특이사항 행의 값 유무 (빈 특이사항은 표시하지 않음) */
+    static boolean hasRemarks(ScheduleSummary s) {
+        return s.getRemarks() != null && !s.getRemarks().isBlank();
+    }
+
+    /** hours 셀 표시 여부 (null/빈값/"0"은 미출근) */
+    static boolean hasHours(String hours) {
+        return hours != null && !hours.isBlank() && !"0".equals(hours);
+    }
+}
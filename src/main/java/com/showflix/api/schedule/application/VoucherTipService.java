@@ -1,19 +1,24 @@
 package com.showflix.api.schedule.application;
 
-import com.showflix.api.auth.domain.User;
+import com.showflix.api.auth.domain.AccountType;
 import com.showflix.api.auth.domain.UserRepository;
+import com.showflix.api.common.MonthVersions;
+import com.showflix.api.common.excel.ExcelExportEngine;
+import com.showflix.api.common.excel.ExcelStyle;
+import com.showflix.api.common.excel.ExcelStyles;
 import com.showflix.api.schedule.domain.SelectedDate;
 import com.showflix.api.schedule.domain.SelectedDateRepository;
 import com.showflix.api.schedule.domain.VoucherTip;
 import com.showflix.api.schedule.domain.VoucherTipRepository;
 import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.ss.util.CellRangeAddress;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -26,13 +31,27 @@ public class VoucherTipService {
     private final SelectedDateRepository selectedDateRepository;
     private final VoucherTipRepository voucherTipRepository;
     private final UserRepository userRepository;
+    private final ExcelExportEngine excelEngine;
+    private final MonthVersions monthVersions;
 
     public VoucherTipService(SelectedDateRepository selectedDateRepository,
                              VoucherTipRepository voucherTipRepository,
-                             UserRepository userRepository) {
+                             UserRepository userRepository,
+                             ExcelExportEngine excelEngine,
+                             MonthVersions monthVersions) {
         this.selectedDateRepository = selectedDateRepository;
         this.voucherTipRepository = voucherTipRepository;
         this.userRepository = userRepository;
+        this.excelEngine = excelEngine;
+        this.monthVersions = monthVersions;
+    }
+
+    /**
+     * 월별 그리드 ETag (DB 조회 없이 계산)
+     * @param format 응답 형식 구분값 (기본 JSON은 빈 문자열) - 형식별 본문이 다르므로 ETag도 구분
+     */
+    public String monthETag(int year, int month, String format) {
+        return monthVersions.etag(MonthVersions.Scope.VOUCHER_TIP, YearMonth.of(year, month), format);
     }
 
     /**
@@ -44,12 +63,7 @@ public class VoucherTipService {
         LocalDate start = LocalDate.of(year, month, 1);
         LocalDate end = start.withDayOfMonth(start.lengthOfMonth());
 
-        // 전체 사용자 조회 후 ACTOR 유형만 필터링
-        List<ActorInfo> actors = userRepository.findAll().stream()
-                .filter(u -> "ACTOR".equals(u.getAccountType()))
-                .sorted(Comparator.comparing(User::getUsername))
-                .map(u -> new ActorInfo(u.getUserid(), u.getUsername(), u.getRole()))
-                .collect(Collectors.toList());
+        List<ActorInfo> actors = loadActors();
 
         // 해당 월 날짜 목록 생성
         List<String> dates = new ArrayList<>();
@@ -72,6 +86,24 @@ public class VoucherTipService {
         return new MonthResult(year, month, end.getDayOfMonth(), actors, dates, data);
     }
 
+    /**
+     * 월별 배우 목록 + 바우처/팁 원본 행 조회 (compact 응답용 - date → userId 중첩 맵을 만들지 않음)
+     */
+    @Transactional(readOnly = true)
+    public MonthRows getMonthRows(int year, int month) {
+        LocalDate start = LocalDate.of(year, month, 1);
+        LocalDate end = start.withDayOfMonth(start.lengthOfMonth());
+        return new MonthRows(year, month, end.getDayOfMonth(), loadActors(),
+                voucherTipRepository.findByMonth(start.toString(), end.toString()));
+    }
+
+    /** ACTOR 유형 사용자 (스냅샷, username 정렬) */
+    private List<ActorInfo> loadActors() {
+        return userRepository.directory().byAccountType(AccountType.ACTOR).stream()
+                .map(u -> new ActorInfo(u.userid(), u.username(), u.role()))
+                .collect(Collectors.toList());
+    }
+
     /**
      * 특정 날짜 출근자 목록 + 기존 바우처/팁 값 병합 조회
      */
@@ -101,12 +133,15 @@ public class VoucherTipService {
 
     /**
      * 바우처/팁 일괄 저장 (upsert) - 일별 데이터
+     * @return 청크(문장)별 affected rows
      */
     @Transactional
-    public void saveAll(String date, List<SaveEntry> entries) {
+    public List<Integer> saveAll(String date, List<SaveEntry> entries) {
         if (date == null || date.isBlank()) {
             throw new IllegalArgumentException("날짜를 입력해주세요.");
         }
+        if (entries == null || entries.isEmpty()) return List.of();
+        List<VoucherTip> list = new ArrayList<>(entries.size());
         for (SaveEntry entry : entries) {
             VoucherTip vt = new VoucherTip();
             vt.setDate(date);
@@ -114,19 +149,24 @@ public class VoucherTipService {
             vt.setUserName(entry.userName());
             vt.setVoucher(entry.voucher());
             vt.setTip(entry.tip());
-            voucherTipRepository.upsert(vt);
+            list.add(vt);
         }
+        monthVersions.touch(MonthVersions.Scope.VOUCHER_TIP, date);
+        return voucherTipRepository.upsertAll(list);
     }
 
     /**
      * 월별 그리드 일괄 저장 (bulk upsert) - 각 엔트리에 date 포함
      * mode에 따라 voucher만 또는 tip만 업데이트
+     * @return 청크(문장)별 affected rows
      */
     @Transactional
-    public void saveBulk(List<DailySaveEntry> entries, String mode) {
+    public List<Integer> saveBulk(List<DailySaveEntry> entries, String mode) {
         if (mode == null || (!"voucher".equals(mode) && !"tip".equals(mode))) {
             throw new IllegalArgumentException("mode는 'voucher' 또는 'tip'이어야 합니다.");
         }
+        if (entries == null || entries.isEmpty()) return List.of();
+        List<VoucherTip> list = new ArrayList<>(entries.size());
         for (DailySaveEntry entry : entries) {
             VoucherTip vt = new VoucherTip();
             vt.setDate(entry.date());
@@ -134,18 +174,24 @@ public class VoucherTipService {
             vt.setUserName(entry.userName());
             vt.setVoucher(entry.voucher());
             vt.setTip(entry.tip());
-            if ("voucher".equals(mode)) {
-                voucherTipRepository.upsertVoucher(vt);
-            } else {
-                voucherTipRepository.upsertTip(vt);
-            }
+            list.add(vt);
+            monthVersions.touch(MonthVersions.Scope.VOUCHER_TIP, entry.date());
         }
+        return "voucher".equals(mode)
+                ? voucherTipRepository.upsertVoucherAll(list)
+                : voucherTipRepository.upsertTipAll(list);
     }
 
     /**
-     * 월별 바우처 또는 팁 엑셀 생성 (mode: "voucher" | "tip")
+     * 월별 바우처 또는 팁 엑셀을 out에 스트리밍 기록 (mode: "voucher" | "tip")
      */
-    public byte[] exportToExcel(int year, int month, MonthResult result, String mode) {
+    public void writeExcel(int year, int month, MonthResult result, String mode, OutputStream out)
+            throws IOException {
+        excelEngine.write(out, (workbook, styles) -> writeSheet(workbook, styles, year, month, result, mode));
+    }
+
+    private void writeSheet(Workbook workbook, ExcelStyles styles, int year, int month,
+                            MonthResult result, String mode) {
         boolean isVoucher = "voucher".equals(mode);
         List<ActorInfo> actors = result.actors();
         Map<String, Map<String, VoucherTipCell>> data = result.data();
@@ -158,178 +204,111 @@ public class VoucherTipService {
 
         String menuLabel = isVoucher ? "바우처" : "팁";
 
-        try (XSSFWorkbook workbook = new XSSFWorkbook()) {
-            Sheet sheet = workbook.createSheet(year + "년 " + month + "월 " + menuLabel);
-            sheet.createFreezePane(1, 2);
-
-            // ── 스타일 ─────────────────────────────────
-            Font boldWhite = workbook.createFont();
-            boldWhite.setBold(true);
-            boldWhite.setColor(IndexedColors.WHITE.getIndex());
-            boldWhite.setFontHeightInPoints((short) 13);
-
-            Font boldDark = workbook.createFont();
-            boldDark.setBold(true);
-            boldDark.setFontHeightInPoints((short) 10);
-
-            Font normalFont = workbook.createFont();
-            normalFont.setFontHeightInPoints((short) 10);
-
-            CellStyle titleStyle = workbook.createCellStyle();
-            titleStyle.setFont(boldWhite);
-            titleStyle.setAlignment(HorizontalAlignment.CENTER);
-            titleStyle.setVerticalAlignment(VerticalAlignment.CENTER);
-            titleStyle.setFillForegroundColor(IndexedColors.VIOLET.getIndex());
-            titleStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-            setBorder(titleStyle);
-
-            CellStyle headerStyle = workbook.createCellStyle();
-            headerStyle.setFont(boldDark);
-            headerStyle.setAlignment(HorizontalAlignment.CENTER);
-            headerStyle.setVerticalAlignment(VerticalAlignment.CENTER);
-            headerStyle.setFillForegroundColor(IndexedColors.GREY_25_PERCENT.getIndex());
-            headerStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-            setBorder(headerStyle);
-
-            CellStyle dataStyle = workbook.createCellStyle();
-            dataStyle.setFont(normalFont);
-            dataStyle.setAlignment(HorizontalAlignment.CENTER);
-            dataStyle.setVerticalAlignment(VerticalAlignment.CENTER);
-            setBorder(dataStyle);
-
-            CellStyle emptyStyle = workbook.createCellStyle();
-            emptyStyle.setFont(normalFont);
-            emptyStyle.setAlignment(HorizontalAlignment.CENTER);
-            emptyStyle.setVerticalAlignment(VerticalAlignment.CENTER);
-            emptyStyle.setFillForegroundColor(IndexedColors.GREY_25_PERCENT.getIndex());
-            emptyStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-            setBorder(emptyStyle);
-
-            CellStyle totalStyle = workbook.createCellStyle();
-            totalStyle.setFont(boldDark);
-            totalStyle.setAlignment(HorizontalAlignment.CENTER);
-            totalStyle.setVerticalAlignment(VerticalAlignment.CENTER);
-            totalStyle.setFillForegroundColor(IndexedColors.LEMON_CHIFFON.getIndex());
-            totalStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-            setBorder(totalStyle);
-
-            CellStyle dateStyle = workbook.createCellStyle();
-            dateStyle.setFont(boldDark);
-            dateStyle.setAlignment(HorizontalAlignment.LEFT);
-            dateStyle.setVerticalAlignment(VerticalAlignment.CENTER);
-            setBorder(dateStyle);
-
-            int rowNum = 0;
-
-            // ── 타이틀 행 ─────────────────────────────
-            Row titleRow = sheet.createRow(rowNum++);
-            titleRow.setHeightInPoints(22);
-            Cell titleCell = titleRow.createCell(0);
-            titleCell.setCellValue(year + "년 " + month + "월 " + menuLabel);
-            titleCell.setCellStyle(titleStyle);
-            sheet.addMergedRegion(new org.apache.poi.ss.util.CellRangeAddress(0, 0, 0, lastCol));
-
-            // ── 헤더 행 ──────────────────────────────
-            Row headerRow = sheet.createRow(rowNum++);
-            headerRow.setHeightInPoints(20);
-
-            Cell dateHeader = headerRow.createCell(0);
-            dateHeader.setCellValue("날짜");
-            dateHeader.setCellStyle(headerStyle);
+        Sheet sheet = workbook.createSheet(year + "년 " + month + "월 " + menuLabel);
+        sheet.createFreezePane(1, 2);
+
+        CellStyle headerStyle = styles.get(ExcelStyle.COL_HEADER);
+        CellStyle dataStyle = styles.get(ExcelStyle.DATA);
+        CellStyle emptyStyle = styles.get(ExcelStyle.EMPTY);
+        CellStyle totalStyle = styles.get(ExcelStyle.TOTAL);
+        CellStyle dateStyle = styles.get(ExcelStyle.DATE);
+
+        int rowNum = 0;
+
+        // ── 타이틀 행 ─────────────────────────────
+        Row titleRow = sheet.createRow(rowNum++);
+        titleRow.setHeightInPoints(22);
+        Cell titleCell = titleRow.createCell(0);
+        titleCell.setCellValue(year + "년 " + month + "월 " + menuLabel);
+        titleCell.setCellStyle(styles.get(ExcelStyle.TITLE));
+        sheet.addMergedRegion(new CellRangeAddress(0, 0, 0, lastCol));
+
+        // ── 헤더 행 ──────────────────────────────
+        Row headerRow = sheet.createRow(rowNum++);
+        headerRow.setHeightInPoints(20);
+
+        Cell dateHeader = headerRow.createCell(0);
+        dateHeader.setCellValue("날짜");
+        dateHeader.setCellStyle(headerStyle);
+
+        for (int i = 0; i < actors.size(); i++) {
+            Cell actorCell = headerRow.createCell(1 + i);
+            actorCell.setCellValue(actors.get(i).userName());
+            actorCell.setCellStyle(headerStyle);
+        }
 
-            for (int i = 0; i < actors.size(); i++) {
-                Cell actorCell = headerRow.createCell(1 + i);
-                actorCell.setCellValue(actors.get(i).userName());
-                actorCell.setCellStyle(headerStyle);
-            }
+        Cell totalHeader = headerRow.createCell(totalCol);
+        totalHeader.setCellValue("합계");
+        totalHeader.setCellStyle(totalStyle);
 
-            Cell totalHeader = headerRow.createCell(totalCol);
-            totalHeader.setCellValue("합계");
-            totalHeader.setCellStyle(totalStyle);
-
-            // ── 데이터 행 (날짜별) ───────────────────
-            LocalDate firstDay = LocalDate.of(year, month, 1);
-            int grandTotal = 0;
-            String[] DOW_KR = {"일", "월", "화", "수", "목", "금", "토"};
-
-            for (int d = 1; d <= daysInMonth; d++) {
-                Row dataRow = sheet.createRow(rowNum++);
-                dataRow.setHeightInPoints(18);
-
-                LocalDate date = firstDay.withDayOfMonth(d);
-                int dowIdx = date.getDayOfWeek().getValue() % 7;
-                String label = d + "일(" + DOW_KR[dowIdx] + ")";
-                String dateStr = String.format("%04d-%02d-%02d", year, month, d);
-
-                Cell dateCell = dataRow.createCell(0);
-                dateCell.setCellValue(label);
-                dateCell.setCellStyle(dateStyle);
-
-                int dayTotal = 0;
-
-                for (int i = 0; i < actors.size(); i++) {
-                    Map<String, VoucherTipCell> dateMap = data.getOrDefault(dateStr, Map.of());
-                    VoucherTipCell cell = dateMap.get(actors.get(i).userId());
-                    Cell actorCell = dataRow.createCell(1 + i);
-
-                    int value = cell == null ? 0 : (isVoucher ? cell.voucher() : cell.tip());
-                    if (value != 0) {
-                        actorCell.setCellValue(value);
-                        actorCell.setCellStyle(dataStyle);
-                        dayTotal += value;
-                        actorTotals[i] += value;
-                    } else {
-                        actorCell.setCellValue("-");
-                        actorCell.setCellStyle(emptyStyle);
-                    }
-                }
+        // ── 데이터 행 (날짜별) ───────────────────
+        LocalDate firstDay = LocalDate.of(year, month, 1);
+        int grandTotal = 0;
+        String[] DOW_KR = {"일", "월", "화", "수", "목", "금", "토"};
 
-                grandTotal += dayTotal;
+        for (int d = 1; d <= daysInMonth; d++) {
+            Row dataRow = sheet.createRow(rowNum++);
+            dataRow.setHeightInPoints(18);
 
-                Cell totalCell = dataRow.createCell(totalCol);
-                totalCell.setCellValue(dayTotal);
-                totalCell.setCellStyle(totalStyle);
-            }
+            LocalDate date = firstDay.withDayOfMonth(d);
+            int dowIdx = date.getDayOfWeek().getValue() % 7;
+            String label = d + "일(" + DOW_KR[dowIdx] + ")";
+            String dateStr = String.format("%04d-%02d-%02d", year, month, d);
 
-            // ── 합계 행 ──────────────────────────────
-            Row totalRow = sheet.createRow(rowNum);
-            totalRow.setHeightInPoints(18);
+            Cell dateCell = dataRow.createCell(0);
+            dateCell.setCellValue(label);
+            dateCell.setCellStyle(dateStyle);
 
-            Cell totalLabel = totalRow.createCell(0);
-            totalLabel.setCellValue("합계");
-            totalLabel.setCellStyle(totalStyle);
+            int dayTotal = 0;
 
             for (int i = 0; i < actors.size(); i++) {
-                Cell actorCell = totalRow.createCell(1 + i);
-                actorCell.setCellValue(actorTotals[i]);
-                actorCell.setCellStyle(totalStyle);
+                Map<String, VoucherTipCell> dateMap = data.getOrDefault(dateStr, Map.of());
+                VoucherTipCell cell = dateMap.get(actors.get(i).userId());
+                Cell actorCell = dataRow.createCell(1 + i);
+
+                int value = cell == null ? 0 : (isVoucher ? cell.voucher() : cell.tip());
+                if (value != 0) {
+                    actorCell.setCellValue(value);
+                    actorCell.setCellStyle(dataStyle);
+                    dayTotal += value;
+                    actorTotals[i] += value;
+                } else {
+                    actorCell.setCellValue("-");
+                    actorCell.setCellStyle(emptyStyle);
+                }
             }
 
-            Cell grandCell = totalRow.createCell(totalCol);
-            grandCell.setCellValue(grandTotal);
-            grandCell.setCellStyle(totalStyle);
+            grandTotal += dayTotal;
 
-            // ── 열 너비 설정 ─────────────────────────
-            sheet.setColumnWidth(0, 3200);
-            for (int c = 1; c <= actors.size(); c++) {
-                sheet.setColumnWidth(c, 2400);
-            }
-            sheet.setColumnWidth(totalCol, 2400);
+            Cell totalCell = dataRow.createCell(totalCol);
+            totalCell.setCellValue(dayTotal);
+            totalCell.setCellStyle(totalStyle);
+        }
 
-            ByteArrayOutputStream bos = new ByteArrayOutputStream();
-            workbook.write(bos);
-            return bos.toByteArray();
+        // ── 합계 행 ──────────────────────────────
+        Row totalRow = sheet.createRow(rowNum);
+        totalRow.setHeightInPoints(18);
 
-        } catch (IOException e) {
-            throw new RuntimeException("Excel 생성 중 오류 발생", e);
+        Cell totalLabel = totalRow.createCell(0);
+        totalLabel.setCellValue("합계");
+        totalLabel.setCellStyle(totalStyle);
+
+        for (int i = 0; i < actors.size(); i++) {
+            Cell actorCell = totalRow.createCell(1 + i);
+            actorCell.setCellValue(actorTotals[i]);
+            actorCell.setCellStyle(totalStyle);
         }
-    }
 
-    private void setBorder(CellStyle style) {
-        style.setBorderTop(BorderStyle.THIN);
-        style.setBorderBottom(BorderStyle.THIN);
-        style.setBorderLeft(BorderStyle.THIN);
-        style.setBorderRight(BorderStyle.THIN);
+        Cell grandCell = totalRow.createCell(totalCol);
+        grandCell.setCellValue(grandTotal);
+        grandCell.setCellStyle(totalStyle);
+
+        // ── 열 너비 설정 ─────────────────────────
+        sheet.setColumnWidth(0, 3200);
+        for (int c = 1; c <= actors.size(); c++) {
+            sheet.setColumnWidth(c, 2400);
+        }
+        sheet.setColumnWidth(totalCol, 2400);
     }
 
     // ─── Result / Command DTO ───────────────────────────────────────
@@ -344,6 +323,9 @@ public class VoucherTipService {
             Map<String, Map<String, VoucherTipCell>> data  // date → (userId → cell)
     ) {}
 
+    /** 월별 원본 행 (rows: 해당 월 전체 바우처/팁 행, 배우 목록에 없는 userId 포함 가능) */
+    public record MonthRows(int year, int month, int daysInMonth, List<ActorInfo> actors, List<VoucherTip> rows) {}
+
     public record ActorInfo(String userId, String userName, String role) {}
 
     public record VoucherTipCell(int voucher, int tip) {}
@@ -5,6 +5,7 @@ import com.showflix.api.schedule.domain.WorkDiaryRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -24,8 +25,8 @@ public class WorkDiaryService {
      */
     @Transactional(readOnly = true)
     public List<WorkDiary> getByMonth(int year, int month) {
-        String yearMonth = String.format("%04d-%02d", year, month);
-        return repository.findByMonth(yearMonth);
+        LocalDate start = LocalDate.of(year, month, 1);
+        return repository.findByDateRange(start.toString(), start.plusMonths(1).toString());
     }
 
     /**
@@ -0,0 +1,53 @@
+package com.showflix.api.schedule.application.event;
+
+import com.showflix.api.schedule.domain.ScheduleTimeSlot;
+import com.showflix.api.schedule.domain.SelectedDate;
+
+import java.util.List;
+
+/**
+ * Application Layer - 달력 변경 이벤트 (커밋 후 SSE 구독자에게 전달)
+ * 유형별로 사용하는 필드만 채움
+ * - DATE_CONFIRMED: date, confirmed (출근자 목록은 전달 시점에 조회)
+ * - USER_ADDED: date, userId, entries(1건), confirmed(upsert 전 상태 - 신규면 null)
+ * - USER_REMOVED: date, userId, confirmed(삭제 전 상태)
+ * - ROLE_CHANGED: date, userId, role, remarks, confirmed(변경 전 상태)
+ * - TIME_SLOTS_SAVED: date, slots
+ */
+public record CalendarChangeEvent(
+        Type type,
+        String date,
+        String userId,
+        String role,
+        String remarks,
+        String confirmed,
+        List<SelectedDate> entries,
+        List<ScheduleTimeSlot> slots
+) {
+
+    public enum Type {
+        DATE_CONFIRMED, USER_ADDED, USER_REMOVED, ROLE_CHANGED, TIME_SLOTS_SAVED
+    }
+
+    public static CalendarChangeEvent dateConfirmed(String date, String confirmed) {
+        return new CalendarChangeEvent(Type.DATE_CONFIRMED, date, null, null, null, confirmed, null, null);
+    }
+
+    public static CalendarChangeEvent userAdded(SelectedDate entry, String previousConfirmed) {
+        return new CalendarChangeEvent(Type.USER_ADDED, entry.getDate(), entry.getUserId(), null, null,
+                previousConfirmed, List.of(entry), null);
+    }
+
+    public static CalendarChangeEvent userRemoved(String date, String userId, String confirmed) {
+        return new CalendarChangeEvent(Type.USER_REMOVED, date, userId, null, null, confirmed, null, null);
+    }
+
+    public static CalendarChangeEvent roleChanged(String date, String userId, String role, String remarks,
+                                                  String confirmed) {
+        return new CalendarChangeEvent(Type.ROLE_CHANGED, date, userId, role, remarks, confirmed, null, null);
+    }
+
+    public static CalendarChangeEvent timeSlotsSaved(String date, List<ScheduleTimeSlot> slots) {
+        return new CalendarChangeEvent(Type.TIME_SLOTS_SAVED, date, null, null, null, null, null, slots);
+    }
+}
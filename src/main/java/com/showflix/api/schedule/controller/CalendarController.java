@@ -1,33 +1,29 @@
 package com.showflix.api.schedule.controller;
 
-import org.springframework.core.io.ClassPathResource;
-import org.springframework.core.io.Resource;
+import com.showflix.api.common.web.StaticHtmlPage;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
-
-import java.io.IOException;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * 캘린더 페이지 컨트롤러
- * RESTful 경로로 정적 HTML 리소스를 서빙
+ * RESTful 경로로 정적 HTML 리소스를 서빙 (기동 시 메모리에 로딩, ETag 재검증)
  */
 @RestController
 public class CalendarController {
 
+    private final StaticHtmlPage calendarPage = StaticHtmlPage.load("static/schedule/calendar.html");
+    private final StaticHtmlPage adminIndexPage = StaticHtmlPage.load("static/admin/index.html");
+
     /**
      * /schedule/calendar 경로로 접근 시 정적 HTML 파일 반환
      * .html 확장자 없이 깔끔한 RESTful 경로 사용
      */
     @GetMapping("/schedule/calendar")
-    public ResponseEntity<Resource> calendar() throws IOException {
-        Resource resource = new ClassPathResource("static/schedule/calendar.html");
-
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_TYPE, MediaType.TEXT_HTML_VALUE)
-                .body(resource);
+    public ResponseEntity<byte[]> calendar(WebRequest webRequest) {
+        return calendarPage.respond(webRequest);
     }
 
     /**
@@ -35,12 +31,8 @@ public class CalendarController {
      * SecurityConfig에서 ADMIN 권한 체크 후 이 메서드가 실행됨
      */
     @GetMapping("/admin/")
-    public ResponseEntity<Resource> adminPage() throws IOException {
-        Resource resource = new ClassPathResource("static/admin/index.html");
-
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_TYPE, MediaType.TEXT_HTML_VALUE)
-                .body(resource);
+    public ResponseEntity<byte[]> adminPage(WebRequest webRequest) {
+        return adminIndexPage.respond(webRequest);
     }
 
     /**
@@ -8,7 +8,8 @@ import java.util.Optional;
  */
 public interface ScheduleRepository {
 
-    List<Schedule> findByYearAndMonth(int year, int month);
+    // 반열림 구간 [start, end) 조회 (YYYY-MM-DD)
+    List<Schedule> findByDateRange(String start, String end);
 
     Optional<Schedule> findByDateAndUsername(String date, String username);
 
@@ -10,4 +10,10 @@ public interface ScheduleSummaryRepository {
     List<ScheduleSummary> findByMonth(String start, String end);
 
     void upsert(ScheduleSummary summary);
+
+    /**
+     * 다건 upsert - 청크 단위 multi-VALUES 문장으로 실행
+     * @return 청크(문장)별 affected rows (리스트 크기 = DB 왕복 횟수)
+     */
+    List<Integer> upsertAll(List<ScheduleSummary> summaries);
 }
@@ -13,6 +13,12 @@ public interface ScheduleTimeSlotRepository {
     /** 저장 또는 업데이트 (ON DUPLICATE KEY UPDATE) */
     void save(ScheduleTimeSlot slot);
 
+    /** 다건 저장 또는 업데이트 (multi-VALUES, 청크 단위 문장) */
+    void upsertAll(List<ScheduleTimeSlot> slots);
+
+    /** 특정 날짜에서 keepTimeSlots에 없는 슬롯 삭제 */
+    void deleteByScheduleDateExcept(String scheduleDate, List<String> keepTimeSlots);
+
     /** 특정 날짜의 시간표 전체 삭제 후 재삽입 */
     void deleteByScheduleDate(String scheduleDate);
 
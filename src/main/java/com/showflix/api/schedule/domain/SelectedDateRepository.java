@@ -9,11 +9,17 @@ public interface SelectedDateRepository {
 
     List<SelectedDate> findByDateBetween(String start, String end);
 
+    /** 단건 확정 상태 (행이 없으면 null, 트랜잭션 종료까지 행 잠금) */
+    String findConfirmedForUpdate(String date, String userId);
+
     void saveAll(List<SelectedDate> list);
 
     int updateRoleByDateAndUserId(String date, String userId, String role, String remarks);
 
     int deleteByDateAndUserId(String date, String userId);
 
+    /** 역할/비고(userId별) 변경과 날짜 확정 상태 변경을 한 문장으로 처리 (roles: date 무시, userId/role/remarks만 사용) */
+    int updateRolesAndConfirmationByDate(String date, List<SelectedDate> roles, String confirmed);
+
     int updateConfirmationByDate(String date, String confirmed);
 }
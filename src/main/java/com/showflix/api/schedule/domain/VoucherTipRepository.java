@@ -18,4 +18,13 @@ public interface VoucherTipRepository {
     void upsertVoucher(VoucherTip voucherTip);
 
     void upsertTip(VoucherTip voucherTip);
+
+    // ── 다건 upsert (청크 단위 multi-VALUES) ─────────────────────
+    // 반환값: 청크(문장)별 affected rows
+
+    List<Integer> upsertAll(List<VoucherTip> voucherTips);
+
+    List<Integer> upsertVoucherAll(List<VoucherTip> voucherTips);
+
+    List<Integer> upsertTipAll(List<VoucherTip> voucherTips);
 }
@@ -8,7 +8,8 @@ import java.util.Optional;
  */
 public interface WorkDiaryRepository {
 
-    List<WorkDiary> findByMonth(String yearMonth);
+    // 반열림 구간 [start, end) 조회 (YYYY-MM-DD)
+    List<WorkDiary> findByDateRange(String start, String end);
 
     Optional<WorkDiary> findById(Long id);
 
@@ -0,0 +1,24 @@
+package com.showflix.api.schedule.infrastructure;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Infrastructure Layer - 다건 SQL 청크 분할 유틸
+ * multi-VALUES 문장 하나의 크기(패킷/바인딩 변수 수)를 제한하기 위해 사용
+ */
+final class BatchChunks {
+
+    private BatchChunks() {}
+
+    static <T> List<List<T>> of(List<T> items, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize는 1 이상이어야 합니다: " + chunkSize);
+        }
+        List<List<T>> chunks = new ArrayList<>((items.size() + chunkSize - 1) / chunkSize);
+        for (int from = 0; from < items.size(); from += chunkSize) {
+            chunks.add(items.subList(from, Math.min(from + chunkSize, items.size())));
+        }
+        return chunks;
+    }
+}
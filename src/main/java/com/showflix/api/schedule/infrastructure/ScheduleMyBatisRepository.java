@@ -21,8 +21,8 @@ public class ScheduleMyBatisRepository implements ScheduleRepository {
     }
 
     @Override
-    public List<Schedule> findByYearAndMonth(int year, int month) {
-        return scheduleMapper.findByYearAndMonth(year, month);
+    public List<Schedule> findByDateRange(String start, String end) {
+        return scheduleMapper.findByDateRange(start, end);
     }
 
     @Override
@@ -3,8 +3,10 @@ package com.showflix.api.schedule.infrastructure;
 import com.showflix.api.schedule.domain.ScheduleSummary;
 import com.showflix.api.schedule.domain.ScheduleSummaryRepository;
 import com.showflix.api.schedule.mapper.ScheduleSummaryMapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -14,9 +16,12 @@ import java.util.List;
 public class ScheduleSummaryMyBatisRepository implements ScheduleSummaryRepository {
 
     private final ScheduleSummaryMapper mapper;
+    private final int chunkSize;
 
-    public ScheduleSummaryMyBatisRepository(ScheduleSummaryMapper mapper) {
+    public ScheduleSummaryMyBatisRepository(ScheduleSummaryMapper mapper,
+                                            @Value("${showflix.batch.chunk-size:200}") int chunkSize) {
         this.mapper = mapper;
+        this.chunkSize = chunkSize;
     }
 
     @Override
@@ -28,4 +33,13 @@ public class ScheduleSummaryMyBatisRepository implements ScheduleSummaryReposito
     public void upsert(ScheduleSummary summary) {
         mapper.upsert(summary);
     }
+
+    @Override
+    public List<Integer> upsertAll(List<ScheduleSummary> summaries) {
+        List<Integer> affected = new ArrayList<>();
+        for (List<ScheduleSummary> chunk : BatchChunks.of(summaries, chunkSize)) {
+            affected.add(mapper.upsertAll(chunk));
+        }
+        return affected;
+    }
 }
@@ -3,6 +3,7 @@ package com.showflix.api.schedule.infrastructure;
 import com.showflix.api.schedule.domain.ScheduleTimeSlot;
 import com.showflix.api.schedule.domain.ScheduleTimeSlotRepository;
 import com.showflix.api.schedule.mapper.ScheduleTimeSlotMapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,9 +12,12 @@ import java.util.List;
 public class ScheduleTimeSlotMyBatisRepository implements ScheduleTimeSlotRepository {
 
     private final ScheduleTimeSlotMapper mapper;
+    private final int chunkSize;
 
-    public ScheduleTimeSlotMyBatisRepository(ScheduleTimeSlotMapper mapper) {
+    public ScheduleTimeSlotMyBatisRepository(ScheduleTimeSlotMapper mapper,
+                                             @Value("${showflix.batch.chunk-size:200}") int chunkSize) {
         this.mapper = mapper;
+        this.chunkSize = chunkSize;
     }
 
     @Override
@@ -26,6 +30,23 @@ public class ScheduleTimeSlotMyBatisRepository implements ScheduleTimeSlotReposi
         mapper.save(slot);
     }
 
+    @Override
+    public void upsertAll(List<ScheduleTimeSlot> slots) {
+        for (List<ScheduleTimeSlot> chunk : BatchChunks.of(slots, chunkSize)) {
+            mapper.upsertAll(chunk);
+        }
+    }
+
+    @Override
+    public void deleteByScheduleDateExcept(String scheduleDate, List<String> keepTimeSlots) {
+        if (keepTimeSlots.isEmpty()) {
+            // NOT IN () 는 문법 오류 - 전체 삭제와 동일
+            mapper.deleteByScheduleDate(scheduleDate);
+            return;
+        }
+        mapper.deleteByScheduleDateExcept(scheduleDate, keepTimeSlots);
+    }
+
     @Override
     public void deleteByScheduleDate(String scheduleDate) {
         mapper.deleteByScheduleDate(scheduleDate);
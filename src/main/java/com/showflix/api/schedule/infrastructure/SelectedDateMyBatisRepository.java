@@ -24,6 +24,11 @@ public class SelectedDateMyBatisRepository implements SelectedDateRepository {
         return mapper.findByDateBetween(start, end);
     }
 
+    @Override
+    public String findConfirmedForUpdate(String date, String userId) {
+        return mapper.findConfirmedForUpdate(date, userId);
+    }
+
     @Override
     public void saveAll(List<SelectedDate> list) {
         for (SelectedDate sd : list) {
@@ -41,6 +46,11 @@ public class SelectedDateMyBatisRepository implements SelectedDateRepository {
         return mapper.deleteByDateAndUserId(date, userId);
     }
 
+    @Override
+    public int updateRolesAndConfirmationByDate(String date, List<SelectedDate> roles, String confirmed) {
+        return mapper.updateRolesAndConfirmationByDate(date, roles, confirmed);
+    }
+
     @Override
     public int updateConfirmationByDate(String date, String confirmed) {
         return mapper.updateConfirmationByDate(date, confirmed);
@@ -3,9 +3,12 @@ package com.showflix.api.schedule.infrastructure;
 import com.showflix.api.schedule.domain.VoucherTip;
 import com.showflix.api.schedule.domain.VoucherTipRepository;
 import com.showflix.api.schedule.mapper.VoucherTipMapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.ToIntFunction;
 
 /**
  * Infrastructure Layer - VoucherTipRepository 구현체 (MyBatis)
@@ -14,9 +17,12 @@ import java.util.List;
 public class VoucherTipMyBatisRepository implements VoucherTipRepository {
 
     private final VoucherTipMapper voucherTipMapper;
+    private final int chunkSize;
 
-    public VoucherTipMyBatisRepository(VoucherTipMapper voucherTipMapper) {
+    public VoucherTipMyBatisRepository(VoucherTipMapper voucherTipMapper,
+                                       @Value("${showflix.batch.chunk-size:200}") int chunkSize) {
         this.voucherTipMapper = voucherTipMapper;
+        this.chunkSize = chunkSize;
     }
 
     @Override
@@ -48,4 +54,27 @@ public class VoucherTipMyBatisRepository implements VoucherTipRepository {
     public void upsertTip(VoucherTip voucherTip) {
         voucherTipMapper.upsertTip(voucherTip);
     }
+
+    @Override
+    public List<Integer> upsertAll(List<VoucherTip> voucherTips) {
+        return inChunks(voucherTips, voucherTipMapper::upsertAll);
+    }
+
+    @Override
+    public List<Integer> upsertVoucherAll(List<VoucherTip> voucherTips) {
+        return inChunks(voucherTips, voucherTipMapper::upsertVoucherAll);
+    }
+
+    @Override
+    public List<Integer> upsertTipAll(List<VoucherTip> voucherTips) {
+        return inChunks(voucherTips, voucherTipMapper::upsertTipAll);
+    }
+
+    private List<Integer> inChunks(List<VoucherTip> voucherTips, ToIntFunction<List<VoucherTip>> statement) {
+        List<Integer> affected = new ArrayList<>();
+        for (List<VoucherTip> chunk : BatchChunks.of(voucherTips, chunkSize)) {
+            affected.add(statement.applyAsInt(chunk));
+        }
+        return affected;
+    }
 }
@@ -21,8 +21,8 @@ public class WorkDiaryMyBatisRepository implements WorkDiaryRepository {
     }
 
     @Override
-    public List<WorkDiary> findByMonth(String yearMonth) {
-        return mapper.findByMonth(yearMonth);
+    public List<WorkDiary> findByDateRange(String start, String end) {
+        return mapper.findByDateRange(start, end);
     }
 
     @Override
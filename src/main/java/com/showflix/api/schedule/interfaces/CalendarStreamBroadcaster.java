@@ -0,0 +1,296 @@
+package com.showflix.api.schedule.interfaces;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.showflix.api.schedule.application.ScheduleTimeSlotService;
+import com.showflix.api.schedule.application.SelectedDateService;
+import com.showflix.api.schedule.application.event.CalendarChangeEvent;
+import com.showflix.api.schedule.domain.SelectedDate;
+import com.showflix.api.schedule.interfaces.assembler.ScheduleDateAssembler;
+import com.showflix.api.schedule.interfaces.dto.SelectedDateResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Interfaces Layer - 달력 변경 SSE 브로드캐스터
+ * - 커밋된 CalendarChangeEvent만 전달 (롤백된 변경은 전달하지 않음)
+ * - 월 조회 API와 같은 노출 규칙: 관리자는 전체, 일반 사용자는 확정 건 + 본인 건만
+ * - 클라이언트별 bounded 버퍼 + 전송 스레드 풀 (느린 클라이언트가 쓰기 요청을 막지 않음)
+ * - 버퍼가 넘치면 쌓인 이벤트를 버리고 RESYNC 이벤트 1건으로 대체 (클라이언트는 월 데이터 재조회)
+ * - RESYNC도 못 받은 채 다시 넘치면 읽지 않는 클라이언트로 보고 구독 해제
+ *   (emitter 종료는 전송 스레드에서 - send와 같은 잠금을 쓰므로 요청 스레드에서 호출하지 않음)
+ * - heartbeat 주석으로 프록시 유휴 연결 종료 방지
+ */
+@Component
+public class CalendarStreamBroadcaster {
+
+    private static final Logger log = LoggerFactory.getLogger(CalendarStreamBroadcaster.class);
+
+    private static final String RESYNC = "RESYNC";
+
+    /** SSE로 내보내는 메시지 (유형별 사용 필드만 포함) */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record StreamMessage(String date, String userId, String role, String remarks, String confirmed,
+                         List<SelectedDateResponse> entries,
+                         List<ScheduleTimeSlotService.TimeSlotResult> slots) {}
+
+    /** 전송 대기 항목 (name == null 이면 heartbeat 주석) */
+    private record Outgoing(String name, Object data) {}
+
+    private final class Client {
+        final SseEmitter emitter;
+        final String userId;
+        final boolean admin;
+        final BlockingQueue<Outgoing> queue = new ArrayBlockingQueue<>(bufferSize);
+        final AtomicBoolean draining = new AtomicBoolean();
+        /** RESYNC가 버퍼에 있고 아직 전송되지 않음 */
+        volatile boolean resyncPending;
+
+        Client(SseEmitter emitter, String userId, boolean admin) {
+            this.emitter = emitter;
+            this.userId = userId;
+            this.admin = admin;
+        }
+
+        boolean canSee(SelectedDate entry) {
+            return canSee(entry.getUserId(), entry.getConfirmed());
+        }
+
+        boolean canSee(String ownerUserId, String confirmed) {
+            return admin || "Y".equalsIgnoreCase(confirmed) || Objects.equals(ownerUserId, userId);
+        }
+    }
+
+    private final SelectedDateService selectedDateService;
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final Set<Client> clients = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolTaskExecutor sender;
+    private final ThreadPoolTaskScheduler heartbeat;
+    private final Counter overflow;
+    private final Counter dropped;
+
+    public CalendarStreamBroadcaster(SelectedDateService selectedDateService,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${showflix.calendar-stream.buffer-size:256}") int bufferSize,
+                                     @Value("${showflix.calendar-stream.heartbeat:25s}") Duration heartbeatInterval,
+                                     @Value("${showflix.calendar-stream.timeout:30m}") Duration timeout,
+                                     @Value("${showflix.calendar-stream.sender-threads:4}") int senderThreads,
+                                     @Value("${showflix.executor.await-termination:30s}") Duration awaitTermination) {
+        this.selectedDateService = selectedDateService;
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeout.toMillis();
+
+        this.sender = new ThreadPoolTaskExecutor();
+        sender.setCorePoolSize(senderThreads);
+        sender.setMaxPoolSize(senderThreads);
+        sender.setThreadNamePrefix("calendar-stream-");
+        sender.setDaemon(true);
+        sender.setWaitForTasksToCompleteOnShutdown(true);
+        sender.setAwaitTerminationMillis(awaitTermination.toMillis());
+        sender.initialize();
+
+        this.heartbeat = new ThreadPoolTaskScheduler();
+        heartbeat.setPoolSize(1);
+        heartbeat.setThreadNamePrefix("calendar-stream-heartbeat-");
+        heartbeat.setDaemon(true);
+        heartbeat.setWaitForTasksToCompleteOnShutdown(true);
+        heartbeat.setAwaitTerminationMillis(awaitTermination.toMillis());
+        heartbeat.initialize();
+        heartbeat.scheduleAtFixedRate(this::sendHeartbeat, Instant.now().plus(heartbeatInterval), heartbeatInterval);
+
+        Gauge.builder("showflix.calendar_stream.clients", clients, Set::size)
+                .description("달력 SSE 구독 중인 클라이언트 수")
+                .register(meterRegistry);
+        this.overflow = Counter.builder("showflix.calendar_stream.overflow")
+                .description("버퍼 포화로 RESYNC 처리된 횟수")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("showflix.calendar_stream.dropped")
+                .description("버퍼 포화가 이어져 구독 해제된 클라이언트 수")
+                .register(meterRegistry);
+    }
+
+    /** 구독 등록 */
+    public SseEmitter subscribe(String userId, boolean admin) {
+        return subscribe(new SseEmitter(timeoutMillis), userId, admin);
+    }
+
+    SseEmitter subscribe(SseEmitter emitter, String userId, boolean admin) {
+        Client client = new Client(emitter, userId, admin);
+        emitter.onCompletion(() -> clients.remove(client));
+        emitter.onTimeout(() -> clients.remove(client));
+        emitter.onError(e -> clients.remove(client));
+        clients.add(client);
+        enqueue(client, new Outgoing("READY", Map.of()));
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCalendarChange(CalendarChangeEvent event) {
+        if (clients.isEmpty()) return;
+        try {
+            broadcast(event);
+        } catch (RuntimeException e) {
+            // 커밋은 이미 끝났으므로 요청을 실패시키지 않음 (클라이언트는 다음 조회 시 반영)
+            log.warn("달력 변경 이벤트 전달 실패: {} {}", event.type(), event.date(), e);
+        }
+    }
+
+    private void broadcast(CalendarChangeEvent event) {
+        String name = event.type().name();
+        switch (event.type()) {
+            case DATE_CONFIRMED -> {
+                // 확정/취소 후 날짜 전체 출근자 (클라이언트는 해당 날짜를 이 목록으로 교체)
+                List<SelectedDate> entries = selectedDateService.getEntriesByDate(event.date());
+                for (Client c : clients) {
+                    List<SelectedDateResponse> visible = ScheduleDateAssembler.toResponseList(
+                            entries.stream().filter(c::canSee).toList());
+                    enqueue(c, new Outgoing(name, new StreamMessage(event.date(), null, null, null,
+                            event.confirmed(), visible, null)));
+                }
+            }
+            case USER_ADDED -> {
+                SelectedDate entry = event.entries().get(0);
+                StreamMessage message = new StreamMessage(event.date(), event.userId(), null, null, null,
+                        ScheduleDateAssembler.toResponseList(event.entries()), null);
+                // 확정 건이 다시 추가되어 미확정이 된 경우, 더 이상 볼 수 없는 사용자에게는 삭제로 전달
+                StreamMessage hidden = new StreamMessage(event.date(), event.userId(), null, null, null, null, null);
+                for (Client c : clients) {
+                    if (c.canSee(entry)) {
+                        enqueue(c, new Outgoing(name, message));
+                    } else if (c.canSee(event.userId(), event.confirmed())) {
+                        enqueue(c, new Outgoing(CalendarChangeEvent.Type.USER_REMOVED.name(), hidden));
+                    }
+                }
+            }
+            case USER_REMOVED, ROLE_CHANGED -> {
+                // 변경 전 확정 건이었다면 일반 사용자 화면에도 있던 행이므로 전체에 전달
+                StreamMessage message = new StreamMessage(event.date(), event.userId(), event.role(),
+                        event.remarks(), null, null, null);
+                for (Client c : clients) {
+                    if (c.canSee(event.userId(), event.confirmed())) enqueue(c, new Outgoing(name, message));
+                }
+            }
+            case TIME_SLOTS_SAVED -> {
+                StreamMessage message = new StreamMessage(event.date(), null, null, null, null, null,
+                        event.slots().stream().map(ScheduleTimeSlotService.TimeSlotResult::new).toList());
+                for (Client c : clients) {
+                    if (c.admin) enqueue(c, new Outgoing(name, message));
+                }
+            }
+        }
+    }
+
+    private void sendHeartbeat() {
+        for (Client c : clients) {
+            // 버퍼가 찬 클라이언트는 이미 보낼 데이터가 있으므로 건너뜀
+            if (c.queue.offer(new Outgoing(null, "ping"))) {
+                scheduleDrain(c);
+            }
+        }
+    }
+
+    private void enqueue(Client client, Outgoing item) {
+        if (!client.queue.offer(item)) {
+            if (client.resyncPending) {
+                // 이전 RESYNC도 아직 못 보냈는데 다시 넘침 - 읽지 않는 클라이언트로 판단
+                drop(client);
+                return;
+            }
+            client.queue.clear();
+            client.resyncPending = true;
+            client.queue.offer(new Outgoing(RESYNC, Map.of()));
+            overflow.increment();
+        }
+        scheduleDrain(client);
+    }
+
+    /** 구독 해제 후 전송 스레드가 emitter를 종료하도록 drain 예약 */
+    private void drop(Client client) {
+        if (!clients.remove(client)) return;
+        dropped.increment();
+        client.queue.clear();
+        log.debug("SSE 버퍼 포화 지속 - 구독 해제: user={}", client.userId);
+        scheduleDrain(client);
+    }
+
+    private void scheduleDrain(Client client) {
+        if (client.draining.compareAndSet(false, true)) {
+            sender.execute(() -> drain(client));
+        }
+    }
+
+    private void drain(Client client) {
+        while (true) {
+            if (!clients.contains(client)) {
+                // 해제된 클라이언트 - 남은 항목 폐기 후 종료 (이미 종료된 emitter면 무시됨)
+                client.queue.clear();
+                client.draining.set(false);
+                try {
+                    client.emitter.complete();
+                } catch (RuntimeException e) {
+                    log.debug("SSE 종료 중 오류", e);
+                }
+                return;
+            }
+            Outgoing item = client.queue.poll();
+            if (item == null) {
+                client.draining.set(false);
+                // 플래그 해제 직후 들어온 항목 처리
+                if (client.queue.isEmpty() || !client.draining.compareAndSet(false, true)) return;
+                continue;
+            }
+            try {
+                if (item.name() == null) {
+                    client.emitter.send(SseEmitter.event().comment((String) item.data()));
+                } else {
+                    client.emitter.send(SseEmitter.event().name(item.name())
+                            .data(item.data(), MediaType.APPLICATION_JSON));
+                    if (RESYNC.equals(item.name())) client.resyncPending = false;
+                }
+            } catch (Exception e) {
+                // 연결 끊김 - 구독 해제
+                clients.remove(client);
+                client.emitter.completeWithError(e);
+                client.draining.set(false);
+                return;
+            }
+        }
+    }
+
+    /** heartbeat 중지 → 버퍼에 남은 이벤트 전송(await-termination까지) → 남은 구독 종료 */
+    @PreDestroy
+    void shutdown() {
+        heartbeat.shutdown();
+        sender.shutdown();
+        for (Client c : clients) {
+            try {
+                c.emitter.complete();
+            } catch (RuntimeException e) {
+                log.debug("SSE 종료 중 오류", e);
+            }
+        }
+        clients.clear();
+    }
+}
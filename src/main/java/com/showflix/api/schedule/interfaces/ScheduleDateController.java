@@ -2,8 +2,9 @@ package com.showflix.api.schedule.interfaces;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.showflix.api.auth.application.AdminUserService;
-import com.showflix.api.auth.domain.User;
 import com.showflix.api.auth.infrastructure.security.CustomUserDetails;
+import com.showflix.api.common.excel.ExcelDownload;
+import com.showflix.api.common.web.CompactJson;
 import com.showflix.api.schedule.application.AdminNoteService;
 import com.showflix.api.schedule.application.CalendarExcelService;
 import com.showflix.api.schedule.application.ScheduleTimeSlotService;
@@ -16,18 +17,20 @@ import com.showflix.api.schedule.application.command.SaveTimeSlotCommand;
 import com.showflix.api.schedule.domain.AdminNote;
 import com.showflix.api.schedule.domain.ScheduleRole;
 import com.showflix.api.schedule.interfaces.assembler.ScheduleDateAssembler;
+import com.showflix.api.schedule.interfaces.dto.CompactMonthDataResponse;
 import com.showflix.api.schedule.interfaces.dto.MonthDataResponse;
 import com.showflix.api.schedule.interfaces.dto.SelectedDateResponse;
-import org.springframework.http.HttpHeaders;
+import org.springframework.http.CacheControl;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -45,17 +48,20 @@ public class ScheduleDateController {
     private final AdminNoteService adminNoteService;
     private final AdminUserService adminUserService;
     private final CalendarExcelService calendarExcelService;
+    private final CalendarStreamBroadcaster streamBroadcaster;
 
     public ScheduleDateController(SelectedDateService selectedDateService,
                                   ScheduleTimeSlotService timeSlotService,
                                   AdminNoteService adminNoteService,
                                   AdminUserService adminUserService,
-                                  CalendarExcelService calendarExcelService) {
+                                  CalendarExcelService calendarExcelService,
+                                  CalendarStreamBroadcaster streamBroadcaster) {
         this.selectedDateService = selectedDateService;
         this.timeSlotService = timeSlotService;
         this.adminNoteService = adminNoteService;
         this.adminUserService = adminUserService;
         this.calendarExcelService = calendarExcelService;
+        this.streamBroadcaster = streamBroadcaster;
     }
 
     /**
@@ -64,36 +70,57 @@ public class ScheduleDateController {
      */
     @GetMapping("/export")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<byte[]> exportMonthlyCalendar(
+    public ResponseEntity<StreamingResponseBody> exportMonthlyCalendar(
             @RequestParam int year,
             @RequestParam int month) {
         MonthQueryCommand command = new MonthQueryCommand(year, month);
         SelectedDateService.MonthResult result = selectedDateService.getDatesByMonth(command);
 
-        byte[] excelBytes = calendarExcelService.generateMonthlyCalendar(year, month, result.getData());
-
-        String filename = year + "년_" + month + "월_달력.xlsx";
-        String encodedFilename = URLEncoder.encode(filename, StandardCharsets.UTF_8).replace("+", "%20");
-
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename*=UTF-8''" + encodedFilename)
-                .contentType(MediaType.parseMediaType(
-                        "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
-                .body(excelBytes);
+        return ExcelDownload.of(year + "년_" + month + "월_달력.xlsx",
+                out -> calendarExcelService.writeMonthlyCalendar(year, month, result.getData(), out));
     }
 
     /**
      * 월별 데이터 조회
      * GET /api/schedule/dates/month?year=2025&month=2
+     * GET /api/schedule/dates/month?year=2025&month=2&format=compact (컬럼형 응답)
      */
     @GetMapping("/month")
-    public ResponseEntity<MonthDataResponse> getMonthData(
+    public ResponseEntity<?> getMonthData(
             @RequestParam int year,
-            @RequestParam int month) {
+            @RequestParam int month,
+            @RequestParam(required = false) String format,
+            WebRequest webRequest) {
+        // If-None-Match가 현재 월 버전과 같으면 DB 조회 없이 304
+        if (webRequest.checkNotModified(selectedDateService.monthETag(year, month, CompactJson.variant(format)))) {
+            return null;
+        }
         MonthQueryCommand command = new MonthQueryCommand(year, month);
         SelectedDateService.MonthResult result = selectedDateService.getDatesByMonth(command);
+        if (CompactJson.requested(format)) {
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .body(new CompactMonthDataResponse(result.isAdmin(), result.getData()));
+        }
         List<SelectedDateResponse> data = ScheduleDateAssembler.toResponseList(result.getData());
-        return ResponseEntity.ok(new MonthDataResponse(result.isAdmin(), data));
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(new MonthDataResponse(result.isAdmin(), data));
+    }
+
+    /**
+     * 달력 변경 스트림 (SSE)
+     * GET /api/schedule/dates/stream
+     * 이벤트: READY, DATE_CONFIRMED, USER_ADDED, USER_REMOVED, ROLE_CHANGED, TIME_SLOTS_SAVED, RESYNC
+     */
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> stream() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !(auth.getPrincipal() instanceof CustomUserDetails cud)) {
+            return ResponseEntity.status(401).build();
+        }
+        var user = cud.getUser();
+        return ResponseEntity.ok(streamBroadcaster.subscribe(user.getUserid(), user.isAdmin()));
     }
 
     /**
@@ -260,9 +287,8 @@ public class ScheduleDateController {
     @GetMapping("/users")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<List<UserListResponse>> listUsers() {
-        List<User> users = adminUserService.getAllUsers("username", "asc");
-        List<UserListResponse> responses = users.stream()
-                .map(u -> new UserListResponse(u.getUserid(), u.getUsername()))
+        List<UserListResponse> responses = adminUserService.getDirectoryUsers().stream()
+                .map(u -> new UserListResponse(u.userid(), u.username()))
                 .toList();
         return ResponseEntity.ok(responses);
     }
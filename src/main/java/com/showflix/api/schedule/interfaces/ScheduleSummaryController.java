@@ -1,15 +1,17 @@
 package com.showflix.api.schedule.interfaces;
 
+import com.showflix.api.common.excel.ExcelDownload;
+import com.showflix.api.common.web.CompactJson;
 import com.showflix.api.schedule.application.ScheduleSummaryExcelService;
 import com.showflix.api.schedule.application.ScheduleSummaryService;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
+import com.showflix.api.schedule.interfaces.dto.CompactScheduleSummaryMonthResponse;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 /**
@@ -32,12 +34,24 @@ public class ScheduleSummaryController {
     /**
      * 월별 출근시간 데이터 조회
      * GET /api/admin/schedule-summary/month?year=2026&month=3
+     * GET /api/admin/schedule-summary/month?year=2026&month=3&format=compact (컬럼형 응답)
      */
     @GetMapping("/month")
-    public ResponseEntity<ScheduleSummaryService.MonthResult> getMonthData(
+    public ResponseEntity<?> getMonthData(
             @RequestParam int year,
-            @RequestParam int month) {
-        return ResponseEntity.ok(service.getMonthData(year, month));
+            @RequestParam int month,
+            @RequestParam(required = false) String format,
+            WebRequest webRequest) {
+        // 변경 없으면 캐시/DB 조회 없이 304
+        if (webRequest.checkNotModified(service.monthETag(year, month, CompactJson.variant(format)))) {
+            return null;
+        }
+        Object body = CompactJson.requested(format)
+                ? new CompactScheduleSummaryMonthResponse(service.getMonthRows(year, month))
+                : service.getMonthData(year, month);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(body);
     }
 
     /**
@@ -59,20 +73,22 @@ public class ScheduleSummaryController {
      * GET /api/admin/schedule-summary/export?year=2026&month=3
      */
     @GetMapping("/export")
-    public ResponseEntity<byte[]> exportExcel(
+    public ResponseEntity<StreamingResponseBody> exportExcel(
             @RequestParam int year,
             @RequestParam int month) {
         ScheduleSummaryService.MonthResult result = service.getMonthData(year, month);
-        byte[] excelBytes = excelService.generate(year, month, result);
-
-        String filename = year + "년_" + month + "월_출근시간.xlsx";
-        String encodedFilename = URLEncoder.encode(filename, StandardCharsets.UTF_8).replace("+", "%20");
+        return ExcelDownload.of(year + "년_" + month + "월_출근시간.xlsx",
+                out -> excelService.write(result, out));
+    }
 
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename*=UTF-8''" + encodedFilename)
-                .contentType(MediaType.parseMediaType(
-                        "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
-                .body(excelBytes);
+    /**
+     * 연간 출근시간 Excel 다운로드 (월별 시트 12개)
+     * GET /api/admin/schedule-summary/export/year?year=2026
+     */
+    @GetMapping("/export/year")
+    public ResponseEntity<StreamingResponseBody> exportYearExcel(@RequestParam int year) {
+        List<ScheduleSummaryService.MonthResult> months = service.getYearData(year);
+        return ExcelDownload.of(year + "년_출근시간.xlsx", out -> excelService.writeYear(months, out));
     }
 
     // ── Request DTO ──────────────────────────────────────────────────────
@@ -1,14 +1,16 @@
 package com.showflix.api.schedule.interfaces;
 
+import com.showflix.api.common.excel.ExcelDownload;
+import com.showflix.api.common.web.CompactJson;
 import com.showflix.api.schedule.application.VoucherTipService;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
+import com.showflix.api.schedule.interfaces.dto.CompactVoucherTipMonthResponse;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 
@@ -56,11 +58,22 @@ public class VoucherTipController {
     /**
      * 월별 배우 바우처/팁 그리드 데이터 조회
      * GET /api/admin/voucher/monthly?year=2026&month=4
+     * GET /api/admin/voucher/monthly?year=2026&month=4&format=compact (컬럼형 응답)
      */
     @GetMapping("/monthly")
-    public ResponseEntity<VoucherTipService.MonthResult> getMonthData(
-            @RequestParam int year, @RequestParam int month) {
-        return ResponseEntity.ok(voucherTipService.getMonthData(year, month));
+    public ResponseEntity<?> getMonthData(
+            @RequestParam int year, @RequestParam int month,
+            @RequestParam(required = false) String format, WebRequest webRequest) {
+        // 변경 없으면 DB 조회 없이 304
+        if (webRequest.checkNotModified(voucherTipService.monthETag(year, month, CompactJson.variant(format)))) {
+            return null;
+        }
+        Object body = CompactJson.requested(format)
+                ? new CompactVoucherTipMonthResponse(voucherTipService.getMonthRows(year, month))
+                : voucherTipService.getMonthData(year, month);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(body);
     }
 
     /**
@@ -69,21 +82,15 @@ public class VoucherTipController {
      * GET /api/admin/voucher/monthly/export?year=2026&month=4&mode=tip
      */
     @GetMapping("/monthly/export")
-    public ResponseEntity<byte[]> exportMonthly(
+    public ResponseEntity<StreamingResponseBody> exportMonthly(
             @RequestParam int year, @RequestParam int month, @RequestParam String mode) {
         if (!"voucher".equals(mode) && !"tip".equals(mode)) {
             return ResponseEntity.badRequest().build();
         }
         VoucherTipService.MonthResult result = voucherTipService.getMonthData(year, month);
-        byte[] excelData = voucherTipService.exportToExcel(year, month, result, mode);
         String menuLabel = "voucher".equals(mode) ? "바우처" : "팁";
-        String filename = year + "년_" + month + "월_" + menuLabel + ".xlsx";
-        String encodedFilename = URLEncoder.encode(filename, StandardCharsets.UTF_8).replace("+", "%20");
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename*=UTF-8''" + encodedFilename)
-                .contentType(MediaType.parseMediaType(
-                        "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
-                .body(excelData);
+        return ExcelDownload.of(year + "년_" + month + "월_" + menuLabel + ".xlsx",
+                out -> voucherTipService.writeExcel(year, month, result, mode, out));
     }
 
     /**
@@ -91,10 +98,10 @@ public class VoucherTipController {
      * POST /api/admin/voucher/monthly/save
      */
     @PostMapping("/monthly/save")
-    public ResponseEntity<Map<String, String>> saveMonthly(
+    public ResponseEntity<Map<String, Object>> saveMonthly(
             @RequestBody MonthSaveRequest request) {
-        voucherTipService.saveBulk(request.entries(), request.mode());
-        return ResponseEntity.ok(Map.of("message", "저장되었습니다."));
+        List<Integer> affected = voucherTipService.saveBulk(request.entries(), request.mode());
+        return ResponseEntity.ok(Map.of("message", "저장되었습니다.", "batches", affected));
     }
 
     record SaveRequest(String date, List<VoucherTipService.SaveEntry> entries) {}
@@ -1,16 +1,14 @@
 package com.showflix.api.schedule.interfaces;
 
+import com.showflix.api.common.excel.ExcelDownload;
 import com.showflix.api.schedule.application.WorkDiaryExcelService;
 import com.showflix.api.schedule.application.WorkDiaryService;
 import com.showflix.api.schedule.domain.WorkDiary;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 
@@ -79,20 +77,12 @@ public class WorkDiaryController {
      * GET /api/admin/work-diary/export?year=2026&month=3
      */
     @GetMapping("/export")
-    public ResponseEntity<byte[]> exportExcel(
+    public ResponseEntity<StreamingResponseBody> exportExcel(
             @RequestParam int year,
             @RequestParam int month) {
         List<WorkDiary> list = service.getByMonth(year, month);
-        byte[] excelBytes = excelService.generate(year, month, list);
-
-        String filename = year + "년_" + month + "월_업무일지.xlsx";
-        String encodedFilename = URLEncoder.encode(filename, StandardCharsets.UTF_8).replace("+", "%20");
-
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename*=UTF-8''" + encodedFilename)
-                .contentType(MediaType.parseMediaType(
-                        "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
-                .body(excelBytes);
+        return ExcelDownload.of(year + "년_" + month + "월_업무일지.xlsx",
+                out -> excelService.write(year, month, list, out));
     }
 
     // ── Request DTO ────────────────────────────────────────────────────
@@ -0,0 +1,100 @@
+package com.showflix.api.schedule.interfaces.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.showflix.api.common.web.CompactJson;
+import com.showflix.api.schedule.domain.SelectedDate;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Interfaces Layer - 월별 출근일 응답 (compact 형식)
+ * {
+ *   "isAdmin": true,
+ *   "dates": ["2025-03-01", ...],                 // 등장한 날짜 (등장 순)
+ *   "users": [["A0001", "홍길동", "ACTOR"], ...], // 등장한 사용자 (userId, userName, accountType) - 이름은 첫 행 기준
+ *   "date": [0, 0, 1, ...],                        // 이하 행별 밀집 배열 (date/user는 위 배열의 인덱스)
+ *   "user": [0, 3, 1, ...],
+ *   "openHope": [0, 1, ...],
+ *   "role": ["DOOR", null, ...],
+ *   "confirmed": [1, 0, ...],
+ *   "remarks": [null, "...", ...]
+ * }
+ */
+public final class CompactMonthDataResponse extends CompactJson {
+
+    private final boolean admin;
+    private final List<SelectedDate> entries;
+
+    public CompactMonthDataResponse(boolean admin, List<SelectedDate> entries) {
+        this.admin = admin;
+        this.entries = entries;
+    }
+
+    @Override
+    protected void write(JsonGenerator gen) throws IOException {
+        int n = entries.size();
+        int[] dateIndex = new int[n];
+        int[] userIndex = new int[n];
+        Map<String, Integer> dates = new HashMap<>();
+        Map<String, Integer> users = new HashMap<>();
+
+        gen.writeStartObject();
+        gen.writeBooleanField("isAdmin", admin);
+
+        gen.writeArrayFieldStart("dates");
+        for (int i = 0; i < n; i++) {
+            String date = entries.get(i).getDate();
+            Integer idx = dates.get(date);
+            if (idx == null) {
+                idx = dates.size();
+                dates.put(date, idx);
+                gen.writeString(date);
+            }
+            dateIndex[i] = idx;
+        }
+        gen.writeEndArray();
+
+        gen.writeArrayFieldStart("users");
+        for (int i = 0; i < n; i++) {
+            SelectedDate e = entries.get(i);
+            Integer idx = users.get(e.getUserId());
+            if (idx == null) {
+                idx = users.size();
+                users.put(e.getUserId(), idx);
+                gen.writeStartArray();
+                gen.writeString(e.getUserId());
+                gen.writeString(e.getUserName());
+                gen.writeString(e.getAccountType());
+                gen.writeEndArray();
+            }
+            userIndex[i] = idx;
+        }
+        gen.writeEndArray();
+
+        gen.writeFieldName("date");
+        gen.writeArray(dateIndex, 0, n);
+        gen.writeFieldName("user");
+        gen.writeArray(userIndex, 0, n);
+
+        gen.writeArrayFieldStart("openHope");
+        for (SelectedDate e : entries) gen.writeNumber(e.isOpenHope() ? 1 : 0);
+        gen.writeEndArray();
+
+        gen.writeArrayFieldStart("role");
+        for (SelectedDate e : entries) gen.writeString(e.getRole());
+        gen.writeEndArray();
+
+        gen.writeArrayFieldStart("confirmed");
+        for (SelectedDate e : entries) gen.writeNumber("Y".equalsIgnoreCase(e.getConfirmed()) ? 1 : 0);
+        gen.writeEndArray();
+
+        gen.writeArrayFieldStart("remarks");
+        for (SelectedDate e : entries) gen.writeString(e.getRemarks());
+        gen.writeEndArray();
+
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,92 @@
+package com.showflix.api.schedule.interfaces.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.showflix.api.common.web.CompactJson;
+import com.showflix.api.schedule.application.ScheduleSummaryService;
+import com.showflix.api.schedule.domain.ScheduleSummary;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Interfaces Layer - 월별 출근시간 응답 (compact 형식)
+ * 날짜는 year-month-01 ~ daysInMonth 순서 (배열 인덱스 = 일 - 1)
+ * {
+ *   "year": 2026, "month": 3, "daysInMonth": 31,
+ *   "staffUsers": [["S0001", "김스텝"], ...],
+ *   "actorUsers": [["A0001", "홍길동"], ...],
+ *   "hours": [["8", null, ...], ...],        // staffUsers, actorUsers 순서의 사용자별 일자 배열
+ *   "staffRemarks": [null, "...", ...],
+ *   "actorRemarks": [null, ...]
+ * }
+ * 사용자 목록에 없는 userId의 데이터(퇴사자 등)는 포함하지 않음 (화면에 표시되지 않는 값)
+ * 조회 원본 행(MonthRows)에서 바로 기록 (userId → date 중첩 맵을 거치지 않음)
+ */
+public final class CompactScheduleSummaryMonthResponse extends CompactJson {
+
+    private final ScheduleSummaryService.MonthRows rows;
+
+    public CompactScheduleSummaryMonthResponse(ScheduleSummaryService.MonthRows rows) {
+        this.rows = rows;
+    }
+
+    @Override
+    protected void write(JsonGenerator gen) throws IOException {
+        List<ScheduleSummaryService.UserInfo> staff = rows.staffUsers();
+        List<ScheduleSummaryService.UserInfo> actors = rows.actorUsers();
+
+        // 사용자 순서(staff, actor) x 일자 격자에 행을 한 번에 배치
+        Map<String, Integer> userIndex = new HashMap<>((staff.size() + actors.size()) * 2);
+        for (ScheduleSummaryService.UserInfo u : staff) userIndex.put(u.userId(), userIndex.size());
+        for (ScheduleSummaryService.UserInfo u : actors) userIndex.put(u.userId(), userIndex.size());
+        String[][] hours = new String[userIndex.size()][rows.daysInMonth()];
+        for (ScheduleSummary s : rows.hours()) {
+            Integer u = userIndex.get(s.getUserId());
+            if (u != null) {
+                hours[u][Integer.parseInt(s.getDate().substring(8, 10)) - 1] = s.getHours();
+            }
+        }
+
+        gen.writeStartObject();
+        gen.writeNumberField("year", rows.year());
+        gen.writeNumberField("month", rows.month());
+        gen.writeNumberField("daysInMonth", rows.daysInMonth());
+        writeUsers(gen, "staffUsers", staff);
+        writeUsers(gen, "actorUsers", actors);
+
+        gen.writeArrayFieldStart("hours");
+        for (String[] userHours : hours) {
+            writeStrings(gen, Arrays.asList(userHours));
+        }
+        gen.writeEndArray();
+
+        gen.writeFieldName("staffRemarks");
+        writeStrings(gen, rows.staffRemarks());
+        gen.writeFieldName("actorRemarks");
+        writeStrings(gen, rows.actorRemarks());
+        gen.writeEndObject();
+    }
+
+    private static void writeUsers(JsonGenerator gen, String field, List<ScheduleSummaryService.UserInfo> users)
+            throws IOException {
+        gen.writeArrayFieldStart(field);
+        for (ScheduleSummaryService.UserInfo u : users) {
+            gen.writeStartArray();
+            gen.writeString(u.userId());
+            gen.writeString(u.userName());
+            gen.writeEndArray();
+        }
+        gen.writeEndArray();
+    }
+
+    private static void writeStrings(JsonGenerator gen, List<String> values) throws IOException {
+        gen.writeStartArray();
+        for (String value : values) {
+            gen.writeString(value);
+        }
+        gen.writeEndArray();
+    }
+}
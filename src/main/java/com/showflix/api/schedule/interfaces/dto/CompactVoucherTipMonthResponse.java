@@ -0,0 +1,84 @@
+package com.showflix.api.schedule.interfaces.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.showflix.api.common.web.CompactJson;
+import com.showflix.api.schedule.application.VoucherTipService;
+import com.showflix.api.schedule.domain.VoucherTip;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Interfaces Layer - 월별 바우처/팁 응답 (compact 형식)
+ * {
+ *   "year": 2026, "month": 4, "daysInMonth": 30,
+ *   "dates": ["2026-04-01", ...],
+ *   "actors": [["A0001", "홍길동", "MALE1"], ...],  // userId, userName, role
+ *   "voucher": [[0, 2, ...], ...],                   // dates 순서의 날짜별 actors 순서 배열 (값 없음 = 0)
+ *   "tip": [[0, 0, ...], ...]
+ * }
+ * 조회 원본 행(MonthRows)에서 바로 기록 (date → userId 중첩 맵을 거치지 않음)
+ */
+public final class CompactVoucherTipMonthResponse extends CompactJson {
+
+    private final VoucherTipService.MonthRows rows;
+
+    public CompactVoucherTipMonthResponse(VoucherTipService.MonthRows rows) {
+        this.rows = rows;
+    }
+
+    @Override
+    protected void write(JsonGenerator gen) throws IOException {
+        List<VoucherTipService.ActorInfo> actors = rows.actors();
+        int days = rows.daysInMonth();
+
+        // 일자 x 배우 격자에 행을 한 번에 배치 (배우 목록에 없는 userId는 제외)
+        Map<String, Integer> actorIndex = new HashMap<>(actors.size() * 2);
+        for (VoucherTipService.ActorInfo a : actors) actorIndex.put(a.userId(), actorIndex.size());
+        int[][] voucher = new int[days][actors.size()];
+        int[][] tip = new int[days][actors.size()];
+        for (VoucherTip vt : rows.rows()) {
+            Integer a = actorIndex.get(vt.getUserId());
+            if (a != null) {
+                int d = Integer.parseInt(vt.getDate().substring(8, 10)) - 1;
+                voucher[d][a] = vt.getVoucher();
+                tip[d][a] = vt.getTip();
+            }
+        }
+
+        gen.writeStartObject();
+        gen.writeNumberField("year", rows.year());
+        gen.writeNumberField("month", rows.month());
+        gen.writeNumberField("daysInMonth", days);
+
+        gen.writeArrayFieldStart("dates");
+        for (int d = 1; d <= days; d++) {
+            gen.writeString(String.format("%04d-%02d-%02d", rows.year(), rows.month(), d));
+        }
+        gen.writeEndArray();
+
+        gen.writeArrayFieldStart("actors");
+        for (VoucherTipService.ActorInfo a : actors) {
+            gen.writeStartArray();
+            gen.writeString(a.userId());
+            gen.writeString(a.userName());
+            gen.writeString(a.role());
+            gen.writeEndArray();
+        }
+        gen.writeEndArray();
+
+        writeCells(gen, "voucher", voucher);
+        writeCells(gen, "tip", tip);
+        gen.writeEndObject();
+    }
+
+    private static void writeCells(JsonGenerator gen, String field, int[][] cells) throws IOException {
+        gen.writeArrayFieldStart(field);
+        for (int[] day : cells) {
+            gen.writeArray(day, 0, day.length);
+        }
+        gen.writeEndArray();
+    }
+}
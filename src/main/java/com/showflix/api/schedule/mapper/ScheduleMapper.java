@@ -12,7 +12,7 @@ import java.util.List;
 @Mapper
 public interface ScheduleMapper {
 
-    List<Schedule> findByYearAndMonth(@Param("year") int year, @Param("month") int month);
+    List<Schedule> findByDateRange(@Param("start") String start, @Param("end") String end);
 
     Schedule findByDateAndUsername(@Param("date") String date,
                                    @Param("username") String username);
@@ -15,4 +15,6 @@ public interface ScheduleSummaryMapper {
     List<ScheduleSummary> findByMonth(@Param("start") String start, @Param("end") String end);
 
     void upsert(ScheduleSummary summary);
+
+    int upsertAll(@Param("list") List<ScheduleSummary> summaries);
 }
@@ -13,6 +13,11 @@ public interface ScheduleTimeSlotMapper {
 
     void save(ScheduleTimeSlot slot);
 
+    int upsertAll(@Param("list") List<ScheduleTimeSlot> slots);
+
+    int deleteByScheduleDateExcept(@Param("scheduleDate") String scheduleDate,
+                                   @Param("keepTimeSlots") List<String> keepTimeSlots);
+
     void deleteByScheduleDate(@Param("scheduleDate") String scheduleDate);
 
     void updateConfirmationByDate(@Param("scheduleDate") String scheduleDate,
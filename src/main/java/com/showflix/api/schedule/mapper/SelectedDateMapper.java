@@ -14,6 +14,8 @@ public interface SelectedDateMapper {
 
     List<SelectedDate> findByDateBetween(@Param("start") String start, @Param("end") String end);
 
+    String findConfirmedForUpdate(@Param("date") String date, @Param("userId") String userId);
+
     void insert(SelectedDate selectedDate);
 
     int updateRoleByDateAndUserId(@Param("date") String date, @Param("userId") String userId,
@@ -21,5 +23,8 @@ public interface SelectedDateMapper {
 
     int deleteByDateAndUserId(@Param("date") String date, @Param("userId") String userId);
 
+    int updateRolesAndConfirmationByDate(@Param("date") String date, @Param("roles") List<SelectedDate> roles,
+                                         @Param("confirmed") String confirmed);
+
     int updateConfirmationByDate(@Param("date") String date, @Param("confirmed") String confirmed);
 }
@@ -23,4 +23,10 @@ public interface VoucherTipMapper {
     void upsertVoucher(VoucherTip voucherTip);
 
     void upsertTip(VoucherTip voucherTip);
+
+    int upsertAll(@Param("list") List<VoucherTip> voucherTips);
+
+    int upsertVoucherAll(@Param("list") List<VoucherTip> voucherTips);
+
+    int upsertTipAll(@Param("list") List<VoucherTip> voucherTips);
 }
@@ -12,7 +12,7 @@ import java.util.List;
 @Mapper
 public interface WorkDiaryMapper {
 
-    List<WorkDiary> findByMonth(@Param("yearMonth") String yearMonth);
+    List<WorkDiary> findByDateRange(@Param("start") String start, @Param("end") String end);
 
     WorkDiary findById(@Param("id") Long id);
 
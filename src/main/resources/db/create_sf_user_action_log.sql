@@ -12,7 +12,17 @@ CREATE TABLE sf_user_action_log (
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
   COMMENT='사용자 행동 로그';
 
-CREATE INDEX idx_ual_username   ON sf_user_action_log (username);
-CREATE INDEX idx_ual_created_at ON sf_user_action_log (created_at);
+-- 조회 조건(username/action) + 정렬(created_at DESC, id DESC) 복합 인덱스
+-- InnoDB 보조 인덱스는 끝에 PK(id)를 포함하므로 (created_at, id) 키셋 커서와 일치
+CREATE INDEX idx_ual_username_created ON sf_user_action_log (username, created_at);
+CREATE INDEX idx_ual_action_created   ON sf_user_action_log (action, created_at);
+CREATE INDEX idx_ual_created_at       ON sf_user_action_log (created_at);
+
+-- 기존 테이블 인덱스 전환 (INPLACE, 쓰기 차단 없음)
+-- ALTER TABLE sf_user_action_log
+--     ADD INDEX idx_ual_username_created (username, created_at),
+--     ADD INDEX idx_ual_action_created (action, created_at),
+--     ALGORITHM=INPLACE, LOCK=NONE;
+-- ALTER TABLE sf_user_action_log DROP INDEX idx_ual_username;
 
 select * from sf_user_action_log;
\ No newline at end of file
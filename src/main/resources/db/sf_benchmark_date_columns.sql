@@ -0,0 +1,56 @@
+-- ============================================
+-- 날짜 컬럼 DATE 전환 전/후 비교용 측정 스크립트
+-- sf_migrate_date_columns.sql 실행 전에 1회, 실행 후에 1회 실행하여 결과 비교
+-- 읽기 전용 (데이터 변경 없음)
+-- ============================================
+
+-- [측정 1] 인덱스 크기 (페이지 수 * 페이지 크기)
+-- ANALYZE TABLE 직후 값이 정확함
+ANALYZE TABLE sf_selected_date, sf_schedule, sf_time_slot, sf_summary, sf_voucher_tip,
+              sf_work_diary, sf_angel_show_cancel;
+
+SELECT table_name,
+       index_name,
+       ROUND(stat_value * @@innodb_page_size / 1024, 1) AS size_kb
+FROM mysql.innodb_index_stats
+WHERE database_name = DATABASE()
+  AND stat_name = 'size'
+  AND table_name IN ('sf_selected_date', 'sf_schedule', 'sf_time_slot', 'sf_summary',
+                     'sf_voucher_tip', 'sf_work_diary', 'sf_angel_show_cancel')
+ORDER BY table_name, index_name;
+
+-- 테이블 전체 (데이터 + 인덱스)
+SELECT table_name,
+       table_rows,
+       ROUND(data_length / 1024, 1)  AS data_kb,
+       ROUND(index_length / 1024, 1) AS index_kb
+FROM information_schema.tables
+WHERE table_schema = DATABASE()
+  AND table_name IN ('sf_selected_date', 'sf_schedule', 'sf_time_slot', 'sf_summary',
+                     'sf_voucher_tip', 'sf_work_diary', 'sf_angel_show_cancel')
+ORDER BY table_name;
+
+
+-- [측정 2] 월 단위 범위 스캔 (애플리케이션의 월별 조회와 동일한 조건)
+-- 측정할 월을 지정 (데이터가 있는 월로 변경)
+SET @start = '2025-01-01';
+SET @end   = '2025-02-01';
+
+-- 실행 계획: type=range, key=날짜 인덱스 인지 확인
+EXPLAIN SELECT date, user_id FROM sf_selected_date WHERE date >= @start AND date < @end;
+EXPLAIN SELECT id, user_id, date, hours FROM sf_summary WHERE date >= @start AND date < @end;
+EXPLAIN SELECT id, date, user_id, voucher, tip FROM sf_voucher_tip WHERE date >= @start AND date < @end;
+
+-- 실제 실행 시간 / 읽은 행 수 (MySQL 8.0.18+)
+-- MariaDB는 EXPLAIN ANALYZE 대신 ANALYZE SELECT ... 사용
+EXPLAIN ANALYZE SELECT date, user_id FROM sf_selected_date WHERE date >= @start AND date < @end;
+EXPLAIN ANALYZE SELECT id, user_id, date, hours FROM sf_summary WHERE date >= @start AND date < @end;
+EXPLAIN ANALYZE SELECT id, date, user_id, voucher, tip FROM sf_voucher_tip WHERE date >= @start AND date < @end;
+EXPLAIN ANALYZE SELECT schedule_date, time_slot, theme FROM sf_time_slot
+ WHERE schedule_date >= @start AND schedule_date < @end;
+
+-- 세션 단위 페이지 읽기 수 (버퍼 풀 읽기 요청 증가분 비교)
+FLUSH STATUS;
+SELECT COUNT(*) FROM sf_selected_date FORCE INDEX (idx_sf_selected_date_date)
+ WHERE date >= @start AND date < @end;
+SHOW SESSION STATUS LIKE 'Handler_read%';
@@ -12,6 +12,7 @@ CREATE TABLE IF NOT EXISTS sf_users (
     phone_number  VARCHAR(20)   NULL     COMMENT '연락처',
     account_type  VARCHAR(20)   NOT NULL DEFAULT 'ACTOR' COMMENT '계정유형: ACTOR, STAFF, CAPTAIN, ADMIN',
     role          VARCHAR(20)   NULL     COMMENT '역할: DOOR, HOLEMAN, OPER, HELPER, KITCHEN, MALE1~3, FEMALE1~3',
+    latest_role   VARCHAR(20)   NULL     COMMENT '가장 최근 출근일 역할 (sf_selected_date 기준 투영)',
     is_admin      TINYINT(1)    NOT NULL DEFAULT 0 COMMENT '관리자 여부',
     created_at    DATETIME      NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '생성일시',
     updated_at    DATETIME      NULL     ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일시',
@@ -22,7 +23,7 @@ CREATE TABLE IF NOT EXISTS sf_users (
 
 -- 2. sf_selected_date (기존: selected_date)
 CREATE TABLE IF NOT EXISTS sf_selected_date (
-    date          VARCHAR(10)   NOT NULL COMMENT '날짜 (YYYY-MM-DD)',
+    date          DATE          NOT NULL COMMENT '날짜 (YYYY-MM-DD)',
     user_id       VARCHAR(50)   NOT NULL COMMENT '사용자 ID (FK: sf_users.userid)',
     user_name     VARCHAR(100)  NULL     COMMENT '사용자 이름 (비정규화)',
     open_hope     TINYINT(1)    NOT NULL DEFAULT 0 COMMENT '오픈 희망 여부',
@@ -40,7 +41,7 @@ CREATE TABLE IF NOT EXISTS sf_selected_date (
 -- 3. sf_schedule (기존: schedule)
 CREATE TABLE IF NOT EXISTS sf_schedule (
     id            BIGINT        NOT NULL AUTO_INCREMENT COMMENT '고유 ID',
-    date          VARCHAR(10)   NOT NULL COMMENT '날짜 (YYYY-MM-DD)',
+    date          DATE          NOT NULL COMMENT '날짜 (YYYY-MM-DD)',
     username      VARCHAR(100)  NOT NULL COMMENT '배우 이름',
     hours         DOUBLE        NOT NULL DEFAULT 0 COMMENT '근무시간',
     memo          TEXT          NULL     COMMENT '메모',
@@ -55,7 +56,7 @@ CREATE TABLE IF NOT EXISTS sf_schedule (
 
 -- 4. sf_time_slot (기존: schedule_time_slot)
 CREATE TABLE IF NOT EXISTS sf_time_slot (
-    schedule_date VARCHAR(10)   NOT NULL COMMENT '날짜 (YYYY-MM-DD)',
+    schedule_date DATE          NOT NULL COMMENT '날짜 (YYYY-MM-DD)',
     time_slot     VARCHAR(5)    NOT NULL COMMENT '시간 (HH:mm)',
     theme         VARCHAR(100)  NULL     COMMENT '테마',
     performer     VARCHAR(500)  NULL     COMMENT '출연자 (콤마 구분)',
@@ -70,7 +71,7 @@ CREATE TABLE IF NOT EXISTS sf_time_slot (
 -- 5. sf_special (기존: schedule_special)
 CREATE TABLE IF NOT EXISTS sf_special (
     id                BIGINT        NOT NULL AUTO_INCREMENT COMMENT '고유 ID',
-    reservation_date  VARCHAR(10)   NOT NULL COMMENT '예약 날짜 (YYYY-MM-DD)',
+    reservation_date  DATE          NOT NULL COMMENT '예약 날짜 (YYYY-MM-DD)',
     reservation_time  VARCHAR(5)    NULL     COMMENT '예약 시간 (HH:mm)',
     customer_name     VARCHAR(100)  NULL     COMMENT '예약자명',
     people_count      INT           NULL     COMMENT '인원수',
@@ -87,7 +88,7 @@ CREATE TABLE IF NOT EXISTS sf_special (
 CREATE TABLE IF NOT EXISTS sf_summary (
     id            BIGINT        NOT NULL AUTO_INCREMENT COMMENT '고유 ID',
     user_id       VARCHAR(50)   NOT NULL COMMENT '사용자 ID',
-    date          VARCHAR(10)   NOT NULL COMMENT '날짜 (YYYY-MM-DD)',
+    date          DATE          NOT NULL COMMENT '날짜 (YYYY-MM-DD)',
     hours         VARCHAR(10)   NOT NULL DEFAULT '0' COMMENT '근무시간',
     remarks       TEXT          NULL     COMMENT '비고',
     created_at    DATETIME      NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '생성일시',
@@ -101,7 +102,7 @@ CREATE TABLE IF NOT EXISTS sf_summary (
 -- 7. sf_work_diary (기존: work_diary / work_log)
 CREATE TABLE IF NOT EXISTS sf_work_diary (
     id              BIGINT        NOT NULL AUTO_INCREMENT COMMENT '고유 ID',
-    date            VARCHAR(10)   NOT NULL COMMENT '날짜 (YYYY-MM-DD)',
+    date            DATE          NOT NULL COMMENT '날짜 (YYYY-MM-DD)',
     manager         VARCHAR(100)  NOT NULL COMMENT '담당자',
     cash_payment    TEXT          NULL     COMMENT '현금 결제',
     reservations    TEXT          NULL     COMMENT '지정석/특수예약/멤버십',
@@ -118,7 +119,7 @@ CREATE TABLE IF NOT EXISTS sf_work_diary (
 -- 8. sf_voucher_tip (기존: actor_voucher_tip)
 CREATE TABLE IF NOT EXISTS sf_voucher_tip (
     id            BIGINT        NOT NULL AUTO_INCREMENT COMMENT '고유 ID',
-    date          VARCHAR(10)   NOT NULL COMMENT '날짜 (YYYY-MM-DD)',
+    date          DATE          NOT NULL COMMENT '날짜 (YYYY-MM-DD)',
     user_id       VARCHAR(50)   NOT NULL COMMENT '사용자 ID',
     user_name     VARCHAR(100)  NULL     COMMENT '사용자 이름 (비정규화)',
     voucher       INT           NOT NULL DEFAULT 0 COMMENT '바우처 수',
@@ -147,7 +148,7 @@ CREATE TABLE IF NOT EXISTS sf_admin_note (
 -- 10. sf_angel_show_cancel: 엔젤쇼 취소현황
 CREATE TABLE IF NOT EXISTS sf_angel_show_cancel (
     id            BIGINT        NOT NULL AUTO_INCREMENT,
-    cancel_date   VARCHAR(10)   NOT NULL COMMENT '취소 날짜 (YYYY-MM-DD)',
+    cancel_date   DATE          NOT NULL COMMENT '취소 날짜 (YYYY-MM-DD)',
     show_time     VARCHAR(5)    NULL     COMMENT '공연 시간 (HH:mm)',
     reason        TEXT          NULL     COMMENT '취소 사유',
     actor_name    VARCHAR(100)  NULL     COMMENT '배우명',
@@ -174,7 +175,7 @@ CREATE TABLE IF NOT EXISTS sf_partner (
 -- 12. sf_health_cert: 보건증 관리
 CREATE TABLE IF NOT EXISTS sf_health_cert (
     user_id       VARCHAR(50)   NOT NULL COMMENT 'FK: sf_users.userid',
-    expire_date   VARCHAR(10)   NULL     COMMENT '만료일 (YYYY-MM-DD)',
+    expire_date   DATE          NULL     COMMENT '만료일 (YYYY-MM-DD)',
     notes         TEXT          NULL     COMMENT '비고',
     updated_at    DATETIME      NULL     ON UPDATE CURRENT_TIMESTAMP,
     PRIMARY KEY (user_id)
@@ -185,8 +186,8 @@ CREATE TABLE IF NOT EXISTS sf_membership (
     id            BIGINT        NOT NULL AUTO_INCREMENT,
     member_name   VARCHAR(100)  NOT NULL COMMENT '회원명',
     phone         VARCHAR(20)   NULL     COMMENT '연락처',
-    join_date     VARCHAR(10)   NULL     COMMENT '가입일 (YYYY-MM-DD)',
-    expire_date   VARCHAR(10)   NULL     COMMENT '만료일 (YYYY-MM-DD)',
+    join_date     DATE          NULL     COMMENT '가입일 (YYYY-MM-DD)',
+    expire_date   DATE          NULL     COMMENT '만료일 (YYYY-MM-DD)',
     memo          TEXT          NULL     COMMENT '메모',
     created_at    DATETIME      NOT NULL DEFAULT CURRENT_TIMESTAMP,
     updated_at    DATETIME      NULL     ON UPDATE CURRENT_TIMESTAMP,
@@ -209,7 +210,7 @@ CREATE TABLE IF NOT EXISTS sf_beer_select (
 -- 15. sf_xmas_seat: 크리스마스 지정석
 CREATE TABLE IF NOT EXISTS sf_xmas_seat (
     id            BIGINT        NOT NULL AUTO_INCREMENT,
-    event_date    VARCHAR(10)   NOT NULL COMMENT '이벤트 날짜 (YYYY-MM-DD)',
+    event_date    DATE          NOT NULL COMMENT '이벤트 날짜 (YYYY-MM-DD)',
     seat_label    VARCHAR(50)   NULL     COMMENT '좌석 번호/명칭',
     customer_name VARCHAR(100)  NULL     COMMENT '예약자명',
     phone         VARCHAR(20)   NULL     COMMENT '연락처',
@@ -234,7 +235,7 @@ CREATE TABLE IF NOT EXISTS sf_monthly_note (
 
 -- 17. sf_daily_note: 연간일정캘린더 날짜별 메모
 CREATE TABLE IF NOT EXISTS sf_daily_note (
-    note_date     VARCHAR(10)   NOT NULL COMMENT '날짜 (YYYY-MM-DD)',
+    note_date     DATE          NOT NULL COMMENT '날짜 (YYYY-MM-DD)',
     content       TEXT          NULL     COMMENT '관리자 입력 텍스트',
     updated_by    VARCHAR(50)   NULL     COMMENT '수정자',
     updated_at    DATETIME      NULL     ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일시',
@@ -0,0 +1,137 @@
+-- ============================================
+-- 날짜 컬럼 VARCHAR(10) -> DATE 전환
+-- 인덱스 키: utf8mb4 VARCHAR(10) 최대 40+바이트 -> DATE 3바이트
+-- 복합 PK(sf_selected_date, sf_time_slot)는 모든 보조 인덱스에 포함되므로 효과가 가장 큼
+--
+-- 실행 순서
+--   0) sf_benchmark_date_columns.sql 의 [측정] 구간 실행 -> 전환 전 수치 기록
+--   1) [사전 점검] 결과가 모두 0건인지 확인 (0건이 아니면 데이터 정리 후 진행)
+--   2) [정리] 실행 (NULL 허용 컬럼의 '' -> NULL)
+--   3) [전환] 테이블별 실행
+--   4) sf_benchmark_date_columns.sql 재실행 -> 전환 후 수치 비교
+--
+-- 잠금
+--   VARCHAR -> DATE 타입 변경은 InnoDB Online DDL(INPLACE) 대상이 아니므로 테이블 복사 발생
+--   LOCK=SHARED: 복사 중 조회는 가능, 쓰기만 대기 -> 운영 시간 외 실행 권장
+--   대용량/무중단이 필요하면 동일 ALTER 문을 gh-ost 또는 pt-online-schema-change 로 실행
+--
+-- 애플리케이션
+--   도메인 클래스는 String(YYYY-MM-DD) 유지
+--   common.mybatis.IsoDateStringTypeHandler 가 DATE <-> String 변환 (mybatis.type-handlers-package)
+--   문자열 파라미터('2026-01-05')는 DATE 컬럼과 비교 시 상수로 변환되므로 인덱스 범위 스캔 유지
+--
+-- 실행 전 반드시 DB 백업할 것!
+-- ============================================
+
+
+-- [사전 점검] DATE로 변환할 수 없는 값 (NOT NULL 컬럼)
+-- STR_TO_DATE 결과가 NULL 이거나 형식이 YYYY-MM-DD 가 아닌 행
+SELECT 'sf_selected_date' AS tbl, COUNT(*) AS invalid_rows FROM sf_selected_date
+ WHERE date NOT REGEXP '^[0-9]{4}-[0-9]{2}-[0-9]{2}$' OR STR_TO_DATE(date, '%Y-%m-%d') IS NULL
+UNION ALL
+SELECT 'sf_schedule', COUNT(*) FROM sf_schedule
+ WHERE date NOT REGEXP '^[0-9]{4}-[0-9]{2}-[0-9]{2}$' OR STR_TO_DATE(date, '%Y-%m-%d') IS NULL
+UNION ALL
+SELECT 'sf_time_slot', COUNT(*) FROM sf_time_slot
+ WHERE schedule_date NOT REGEXP '^[0-9]{4}-[0-9]{2}-[0-9]{2}$' OR STR_TO_DATE(schedule_date, '%Y-%m-%d') IS NULL
+UNION ALL
+SELECT 'sf_special', COUNT(*) FROM sf_special
+ WHERE reservation_date NOT REGEXP '^[0-9]{4}-[0-9]{2}-[0-9]{2}$' OR STR_TO_DATE(reservation_date, '%Y-%m-%d') IS NULL
+UNION ALL
+SELECT 'sf_summary', COUNT(*) FROM sf_summary
+ WHERE date NOT REGEXP '^[0-9]{4}-[0-9]{2}-[0-9]{2}$' OR STR_TO_DATE(date, '%Y-%m-%d') IS NULL
+UNION ALL
+SELECT 'sf_work_diary', COUNT(*) FROM sf_work_diary
+ WHERE date NOT REGEXP '^[0-9]{4}-[0-9]{2}-[0-9]{2}$' OR STR_TO_DATE(date, '%Y-%m-%d') IS NULL
+UNION ALL
+SELECT 'sf_voucher_tip', COUNT(*) FROM sf_voucher_tip
+ WHERE date NOT REGEXP '^[0-9]{4}-[0-9]{2}-[0-9]{2}$' OR STR_TO_DATE(date, '%Y-%m-%d') IS NULL
+UNION ALL
+SELECT 'sf_angel_show_cancel', COUNT(*) FROM sf_angel_show_cancel
+ WHERE cancel_date NOT REGEXP '^[0-9]{4}-[0-9]{2}-[0-9]{2}$' OR STR_TO_DATE(cancel_date, '%Y-%m-%d') IS NULL
+UNION ALL
+SELECT 'sf_xmas_seat', COUNT(*) FROM sf_xmas_seat
+ WHERE event_date NOT REGEXP '^[0-9]{4}-[0-9]{2}-[0-9]{2}$' OR STR_TO_DATE(event_date, '%Y-%m-%d') IS NULL
+UNION ALL
+SELECT 'sf_daily_note', COUNT(*) FROM sf_daily_note
+ WHERE note_date NOT REGEXP '^[0-9]{4}-[0-9]{2}-[0-9]{2}$' OR STR_TO_DATE(note_date, '%Y-%m-%d') IS NULL;
+
+-- [사전 점검] NULL 허용 컬럼: '' 이외의 잘못된 값
+SELECT 'sf_health_cert.expire_date' AS col, COUNT(*) AS invalid_rows FROM sf_health_cert
+ WHERE expire_date <> '' AND STR_TO_DATE(expire_date, '%Y-%m-%d') IS NULL
+UNION ALL
+SELECT 'sf_membership.join_date', COUNT(*) FROM sf_membership
+ WHERE join_date <> '' AND STR_TO_DATE(join_date, '%Y-%m-%d') IS NULL
+UNION ALL
+SELECT 'sf_membership.expire_date', COUNT(*) FROM sf_membership
+ WHERE expire_date <> '' AND STR_TO_DATE(expire_date, '%Y-%m-%d') IS NULL;
+
+
+-- [정리] 빈 문자열은 DATE로 변환 불가 (strict 모드) -> NULL
+UPDATE sf_health_cert SET expire_date = NULL WHERE expire_date = '';
+UPDATE sf_membership  SET join_date   = NULL WHERE join_date   = '';
+UPDATE sf_membership  SET expire_date = NULL WHERE expire_date = '';
+commit;
+
+
+-- [전환] 테이블당 ALTER 1회 (컬럼 여러 개여도 복사는 1번)
+-- 기존 인덱스(PK/UNIQUE/INDEX)는 컬럼 타입만 바뀌고 그대로 유지됨
+
+ALTER TABLE sf_selected_date
+    MODIFY date DATE NOT NULL COMMENT '날짜 (YYYY-MM-DD)',
+    ALGORITHM=COPY, LOCK=SHARED;
+
+ALTER TABLE sf_schedule
+    MODIFY date DATE NOT NULL COMMENT '날짜 (YYYY-MM-DD)',
+    ALGORITHM=COPY, LOCK=SHARED;
+
+ALTER TABLE sf_time_slot
+    MODIFY schedule_date DATE NOT NULL COMMENT '날짜 (YYYY-MM-DD)',
+    ALGORITHM=COPY, LOCK=SHARED;
+
+ALTER TABLE sf_special
+    MODIFY reservation_date DATE NOT NULL COMMENT '예약 날짜 (YYYY-MM-DD)',
+    ALGORITHM=COPY, LOCK=SHARED;
+
+ALTER TABLE sf_summary
+    MODIFY date DATE NOT NULL COMMENT '날짜 (YYYY-MM-DD)',
+    ALGORITHM=COPY, LOCK=SHARED;
+
+ALTER TABLE sf_work_diary
+    MODIFY date DATE NOT NULL COMMENT '날짜 (YYYY-MM-DD)',
+    ALGORITHM=COPY, LOCK=SHARED;
+
+ALTER TABLE sf_voucher_tip
+    MODIFY date DATE NOT NULL COMMENT '날짜 (YYYY-MM-DD)',
+    ALGORITHM=COPY, LOCK=SHARED;
+
+ALTER TABLE sf_angel_show_cancel
+    MODIFY cancel_date DATE NOT NULL COMMENT '취소 날짜 (YYYY-MM-DD)',
+    ALGORITHM=COPY, LOCK=SHARED;
+
+ALTER TABLE sf_health_cert
+    MODIFY expire_date DATE NULL COMMENT '만료일 (YYYY-MM-DD)',
+    ALGORITHM=COPY, LOCK=SHARED;
+
+ALTER TABLE sf_membership
+    MODIFY join_date   DATE NULL COMMENT '가입일 (YYYY-MM-DD)',
+    MODIFY expire_date DATE NULL COMMENT '만료일 (YYYY-MM-DD)',
+    ALGORITHM=COPY, LOCK=SHARED;
+
+ALTER TABLE sf_xmas_seat
+    MODIFY event_date DATE NOT NULL COMMENT '이벤트 날짜 (YYYY-MM-DD)',
+    ALGORITHM=COPY, LOCK=SHARED;
+
+ALTER TABLE sf_daily_note
+    MODIFY note_date DATE NOT NULL COMMENT '날짜 (YYYY-MM-DD)',
+    ALGORITHM=COPY, LOCK=SHARED;
+
+-- 통계 갱신 (인덱스 크기 재계산)
+ANALYZE TABLE sf_selected_date, sf_schedule, sf_time_slot, sf_special, sf_summary,
+              sf_work_diary, sf_voucher_tip, sf_angel_show_cancel, sf_health_cert,
+              sf_membership, sf_xmas_seat, sf_daily_note;
+
+
+-- [롤백] 필요 시 (DATE -> 'YYYY-MM-DD' 문자열로 그대로 복원됨)
+-- ALTER TABLE sf_selected_date MODIFY date VARCHAR(10) NOT NULL COMMENT '날짜 (YYYY-MM-DD)', ALGORITHM=COPY, LOCK=SHARED;
+-- (나머지 테이블도 동일 형식)
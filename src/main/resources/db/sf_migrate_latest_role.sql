@@ -0,0 +1,36 @@
+-- ============================================
+-- sf_users.latest_role 추가 (사용자별 최근 역할 투영)
+-- 계정 목록(findAll/findAllSorted)의 recentRole을 sf_selected_date 상관 서브쿼리 대신 컬럼에서 조회
+--
+-- 유지 방식
+--   역할이 바뀌는 경로(출근일 저장/삭제, 관리자 추가, 역할 변경, 통합 확정)에서 같은 트랜잭션으로 갱신
+--   LatestRoleBackfillScheduler 가 매일 03:30 전체 재계산 (누락 보정)
+--   사용자별 최신 행 탐색은 idx_sf_selected_date_user (user_id + PK date) 역방향 스캔으로 처리
+--
+-- 잠금
+--   NULL 허용 컬럼 추가는 ALGORITHM=INSTANT (MySQL 8.0.12+ / MariaDB 10.3+) - 테이블 복사 없음
+--
+-- 실행 전 반드시 DB 백업할 것!
+-- ============================================
+
+-- [전환] 컬럼 추가
+ALTER TABLE sf_users
+    ADD COLUMN latest_role VARCHAR(20) NULL COMMENT '가장 최근 출근일 역할 (sf_selected_date 기준 투영)' AFTER role,
+    ALGORITHM=INSTANT;
+
+-- [최초 적재] 기존 이력으로 채움 (updated_at 은 계정 수정 시각이므로 유지)
+UPDATE sf_users u
+SET u.latest_role = (
+        SELECT sd.role
+        FROM sf_selected_date sd
+        WHERE sd.user_id = u.userid
+          AND sd.role IS NOT NULL
+          AND sd.role != ''
+        ORDER BY sd.date DESC
+        LIMIT 1
+    ),
+    u.updated_at = u.updated_at;
+
+
+-- [롤백] 필요 시 (애플리케이션을 이전 버전으로 되돌린 뒤 실행)
+-- ALTER TABLE sf_users DROP COLUMN latest_role;
@@ -0,0 +1,80 @@
+package com.showflix.api.auth.application;
+
+import com.showflix.api.auth.domain.User;
+import com.showflix.api.auth.infrastructure.UserMyBatisRepository;
+import com.showflix.api.auth.infrastructure.security.PrincipalVersionRegistry;
+import com.showflix.api.auth.mapper.UserMapper;
+import com.showflix.api.common.MonthVersions;
+import com.showflix.api.schedule.application.ScheduleSummaryMonthCache;
+import com.showflix.api.schedule.application.ScheduleSummaryService;
+import com.showflix.api.schedule.domain.ScheduleSummaryRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 계정 변경 후 출근시간 월별 캐시 - 새 ETag로 이전 사용자 목록을 응답하지 않아야 함
+ */
+class AdminUserServiceRosterTest {
+
+    private final UserMapper userMapper = mock(UserMapper.class);
+    private final ScheduleSummaryRepository summaryRepository = mock(ScheduleSummaryRepository.class);
+    private final MonthVersions monthVersions = new MonthVersions();
+    private final ScheduleSummaryMonthCache monthCache = new ScheduleSummaryMonthCache(24, Duration.ofHours(1));
+
+    private final UserMyBatisRepository userRepository = new UserMyBatisRepository(userMapper);
+    private final ScheduleSummaryService summaryService =
+            new ScheduleSummaryService(summaryRepository, userRepository, monthCache, monthVersions);
+    private final AdminUserService adminUserService = new AdminUserService(userRepository,
+            mock(PasswordEncoder.class), monthVersions, new PrincipalVersionRegistry(), monthCache);
+
+    @Test
+    void updateUserRefreshesCachedMonthRoster() {
+        when(summaryRepository.findByMonth(anyString(), anyString())).thenReturn(List.of());
+        when(userMapper.findAllForDirectory()).thenReturn(List.of(actor("A0001", "김배우")));
+        when(userMapper.findByUserid("A0001")).thenReturn(actor("A0001", "김배우"));
+
+        String before = summaryService.monthETag(2026, 3, "");
+        assertThat(userNames(summaryService.getMonthData(2026, 3))).containsExactly("김배우");
+
+        when(userMapper.findAllForDirectory()).thenReturn(List.of(actor("A0001", "이배우")));
+        adminUserService.updateUser("A0001", "이배우", "ACTOR", null);
+
+        assertThat(summaryService.monthETag(2026, 3, "")).isNotEqualTo(before);
+        assertThat(userNames(summaryService.getMonthData(2026, 3))).containsExactly("이배우");
+    }
+
+    @Test
+    void deleteUserRemovesUserFromCachedMonth() {
+        when(summaryRepository.findByMonth(anyString(), anyString())).thenReturn(List.of());
+        when(userMapper.findAllForDirectory())
+                .thenReturn(List.of(actor("A0001", "김배우"), actor("A0002", "박배우")));
+        when(userMapper.findByUserid("A0002")).thenReturn(actor("A0002", "박배우"));
+
+        assertThat(userNames(summaryService.getMonthData(2026, 3))).containsExactly("김배우", "박배우");
+
+        when(userMapper.findAllForDirectory()).thenReturn(List.of(actor("A0001", "김배우")));
+        adminUserService.deleteUser("A0002", "W0001");
+
+        assertThat(userNames(summaryService.getMonthData(2026, 3))).containsExactly("김배우");
+    }
+
+    private static List<String> userNames(ScheduleSummaryService.MonthResult result) {
+        return result.actorUsers().stream().map(ScheduleSummaryService.UserInfo::userName).toList();
+    }
+
+    private static User actor(String userid, String username) {
+        User user = new User();
+        user.setUserid(userid);
+        user.setUsername(username);
+        user.setAccountType("ACTOR");
+        return user;
+    }
+}
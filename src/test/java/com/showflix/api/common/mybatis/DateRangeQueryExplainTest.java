@@ -0,0 +1,116 @@
+package com.showflix.api.common.mybatis;
+
+import com.showflix.api.support.MapperSql;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.EncodedResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기간 조회 SQL 회귀 테스트 - 반열림 구간 [start, end) 조건이 날짜 인덱스 범위 스캔을 타는지 EXPLAIN으로 확인
+ * - SQL은 운영 매퍼 XML에서 렌더링 (YEAR()/MONTH()/LIKE 형태로 되돌아가면 type=ALL/index로 실패)
+ * - 3년치 일별 데이터 + ANALYZE 후 한 달 범위 조회
+ * - Docker가 없으면 건너뜀
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class DateRangeQueryExplainTest {
+
+    @Container
+    static final MariaDBContainer<?> DB = new MariaDBContainer<>(DockerImageName.parse("mariadb:10.11"))
+            .withDatabaseName("showflix")
+            .withCommand("--character-set-server=utf8mb4", "--collation-server=utf8mb4_unicode_ci");
+
+    private static final LocalDate SEED_FROM = LocalDate.of(2024, 1, 1);
+    private static final int SEED_DAYS = 3 * 365;
+
+    @BeforeAll
+    static void schemaAndSeed() throws SQLException {
+        try (Connection conn = connect()) {
+            ScriptUtils.executeSqlScript(conn,
+                    new EncodedResource(new ClassPathResource("db/sf_create_tables.sql"), StandardCharsets.UTF_8));
+            conn.setAutoCommit(false);
+            seed(conn, "INSERT INTO sf_schedule (date, username, hours) VALUES (?, ?, 8)", 5);
+            seed(conn, "INSERT INTO sf_time_slot (schedule_date, time_slot) VALUES (?, ?)", 3);
+            seed(conn, "INSERT INTO sf_work_diary (date, manager) VALUES (?, ?)", 1);
+            seed(conn, "INSERT INTO sf_angel_show_cancel (cancel_date, show_time) VALUES (?, ?)", 1);
+            conn.commit();
+            try (Statement st = conn.createStatement()) {
+                st.execute("ANALYZE TABLE sf_schedule, sf_time_slot, sf_work_diary, sf_angel_show_cancel");
+            }
+        }
+    }
+
+    static Stream<Arguments> rangeQueries() {
+        return Stream.of(
+                Arguments.of("com.showflix.api.schedule.mapper.ScheduleMapper.findByDateRange",
+                        Set.of("idx_sf_schedule_date", "uk_sf_schedule_date_user")),
+                Arguments.of("com.showflix.api.schedule.mapper.WorkDiaryMapper.findByDateRange",
+                        Set.of("uk_sf_diary_date")),
+                Arguments.of("com.showflix.api.admin.mapper.AngelShowCancelMapper.findByDateRange",
+                        Set.of("idx_angel_cancel_date")),
+                // sf_time_slot PK는 (schedule_date, time_slot) - 날짜 선두 인덱스 둘 다 허용
+                Arguments.of("com.showflix.api.admin.mapper.AnnualCalendarMapper.findByDateRange",
+                        Set.of("PRIMARY", "idx_sf_timeslot_date")));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("rangeQueries")
+    void monthRangeUsesDateIndexRangeScan(String statementId, Set<String> dateIndexes) throws SQLException {
+        MapperSql.Rendered rendered = MapperSql.render(statementId,
+                Map.of("start", "2025-03-01", "end", "2025-04-01"));
+
+        try (Connection conn = connect();
+             PreparedStatement ps = conn.prepareStatement("EXPLAIN " + rendered.sql())) {
+            List<Object> parameters = rendered.parameters();
+            for (int i = 0; i < parameters.size(); i++) {
+                ps.setObject(i + 1, parameters.get(i));
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                assertThat(rs.next()).isTrue();
+                assertThat(rs.getString("type")).as("type").isEqualTo("range");
+                assertThat(rs.getString("key")).as("key").isIn(dateIndexes);
+            }
+        }
+    }
+
+    /** 일자별 perDay행 (두 번째 컬럼은 일자 내 구분값) */
+    private static void seed(Connection conn, String sql, int perDay) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            for (int d = 0; d < SEED_DAYS; d++) {
+                String date = SEED_FROM.plusDays(d).toString();
+                for (int i = 0; i < perDay; i++) {
+                    ps.setString(1, date);
+                    ps.setString(2, String.format("%02d:00", 10 + i));
+                    ps.addBatch();
+                }
+            }
+            ps.executeBatch();
+        }
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(DB.getJdbcUrl(), DB.getUsername(), DB.getPassword());
+    }
+}
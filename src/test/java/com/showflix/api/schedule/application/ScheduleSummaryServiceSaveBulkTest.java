@@ -0,0 +1,73 @@
+package com.showflix.api.schedule.application;
+
+import com.showflix.api.auth.domain.UserRepository;
+import com.showflix.api.common.MonthVersions;
+import com.showflix.api.schedule.domain.ScheduleSummary;
+import com.showflix.api.schedule.infrastructure.ScheduleSummaryMyBatisRepository;
+import com.showflix.api.schedule.mapper.ScheduleSummaryMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+/**
+ * saveBulk 문장 수 - 건별 upsert(n건) → multi-VALUES upsert ceil(n / chunk)건
+ */
+class ScheduleSummaryServiceSaveBulkTest {
+
+    private static final int CHUNK_SIZE = 200;
+
+    private final ScheduleSummaryMapper mapper = Mockito.mock(ScheduleSummaryMapper.class);
+    private final ScheduleSummaryService service = new ScheduleSummaryService(
+            new ScheduleSummaryMyBatisRepository(mapper, CHUNK_SIZE),
+            Mockito.mock(UserRepository.class),
+            new ScheduleSummaryMonthCache(0, Duration.ZERO),
+            new MonthVersions());
+
+    @ParameterizedTest(name = "{0}건 → {1}문장")
+    @CsvSource({"1, 1", "200, 1", "201, 2", "900, 5"})
+    void saveBulkIssuesOneStatementPerChunk(int items, int expectedStatements) {
+        service.saveBulk(items(items));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ScheduleSummary>> chunks = ArgumentCaptor.forClass(List.class);
+        verify(mapper, times(expectedStatements)).upsertAll(chunks.capture());
+        verify(mapper, never()).upsert(any());
+        verifyNoMoreInteractions(mapper);
+        // 모든 행이 정확히 한 번씩 기록됨
+        assertThat(chunks.getAllValues().stream().mapToInt(List::size).sum()).isEqualTo(items);
+        chunks.getAllValues().forEach(chunk -> assertThat(chunk).hasSizeLessThanOrEqualTo(CHUNK_SIZE));
+    }
+
+    @Test
+    void emptySaveIssuesNoStatement() {
+        service.saveBulk(List.of());
+
+        verifyNoInteractions(mapper);
+    }
+
+    private static List<ScheduleSummaryService.SaveItem> items(int n) {
+        // 30명 x 30일 = 900 셀 (출근시간 그리드 한 달 분량)
+        LocalDate first = LocalDate.of(2026, 3, 1);
+        List<ScheduleSummaryService.SaveItem> list = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            list.add(new ScheduleSummaryService.SaveItem(
+                    String.format("A%04d", i / 30), first.plusDays(i % 30).toString(), "8", null));
+        }
+        return list;
+    }
+}
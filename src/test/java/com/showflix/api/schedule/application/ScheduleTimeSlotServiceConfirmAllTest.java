@@ -0,0 +1,168 @@
+package com.showflix.api.schedule.application;
+
+import com.showflix.api.auth.infrastructure.UserMyBatisRepository;
+import com.showflix.api.auth.mapper.UserMapper;
+import com.showflix.api.common.MonthVersions;
+import com.showflix.api.schedule.application.command.ConfirmAllCommand;
+import com.showflix.api.schedule.domain.ScheduleTimeSlot;
+import com.showflix.api.schedule.domain.ScheduleTimeSlotRepository;
+import com.showflix.api.schedule.domain.SelectedDate;
+import com.showflix.api.schedule.domain.SelectedDateRepository;
+import com.showflix.api.schedule.infrastructure.ScheduleTimeSlotMyBatisRepository;
+import com.showflix.api.schedule.infrastructure.SelectedDateMyBatisRepository;
+import com.showflix.api.schedule.mapper.ScheduleTimeSlotMapper;
+import com.showflix.api.schedule.mapper.SelectedDateMapper;
+import com.showflix.api.support.MapperSql;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * confirmAll 문장 수 - 배치 이전(슬롯·역할 건별) vs 현재(슬롯·인원 수와 무관하게 고정)
+ */
+class ScheduleTimeSlotServiceConfirmAllTest {
+
+    private static final int CHUNK_SIZE = 200;
+    private static final String DATE = "2026-03-14";
+
+    private final ScheduleTimeSlotMapper timeSlotMapper = Mockito.mock(ScheduleTimeSlotMapper.class);
+    private final SelectedDateMapper selectedDateMapper = Mockito.mock(SelectedDateMapper.class);
+    private final UserMapper userMapper = Mockito.mock(UserMapper.class);
+
+    private final ScheduleTimeSlotRepository timeSlotRepository =
+            new ScheduleTimeSlotMyBatisRepository(timeSlotMapper, CHUNK_SIZE);
+    private final SelectedDateRepository selectedDateRepository = new SelectedDateMyBatisRepository(selectedDateMapper);
+    private final ScheduleTimeSlotService service = new ScheduleTimeSlotService(
+            timeSlotRepository,
+            selectedDateRepository,
+            new UserMyBatisRepository(userMapper),
+            new MonthVersions(),
+            event -> {});
+
+    @ParameterizedTest(name = "슬롯 {0} / 역할 {1} → 이전 {2}문장, 현재 {3}문장")
+    @CsvSource({
+            "0,   0,   2, 2",
+            "0,   11, 13, 3",
+            "12,  0,  16, 3",
+            "12,  11, 27, 4",
+            "250, 11, 265, 5"
+    })
+    void confirmAllStatementCount(int slots, int roles, int legacyStatements, int batchedStatements) {
+        ConfirmAllCommand cmd = command(slots, roles);
+
+        legacyConfirmAll(cmd);
+        assertThat(statements()).isEqualTo(legacyStatements);
+
+        Mockito.clearInvocations(timeSlotMapper, selectedDateMapper, userMapper);
+        service.confirmAll(cmd);
+        assertThat(statements()).isEqualTo(batchedStatements);
+        verify(timeSlotMapper, never()).save(any());
+        verify(selectedDateMapper, never()).updateRoleByDateAndUserId(anyString(), anyString(), any(), any());
+        verify(selectedDateMapper).updateRolesAndConfirmationByDate(eq(DATE), anyList(), eq("Y"));
+    }
+
+    @Test
+    void emptyKeepListDeletesWholeDate() {
+        // NOT IN () 대신 날짜 전체 삭제 1문장
+        timeSlotRepository.deleteByScheduleDateExcept(DATE, List.of());
+
+        assertThat(statements()).isEqualTo(1);
+        verify(timeSlotMapper).deleteByScheduleDate(DATE);
+    }
+
+    @Test
+    void duplicateUserIdsKeepLastItem() {
+        ConfirmAllCommand cmd = new ConfirmAllCommand(DATE, List.of(), List.of(
+                new ConfirmAllCommand.RoleItem("A0001", "MALE1", "첫 입력"),
+                new ConfirmAllCommand.RoleItem("A0002", "DOOR", null),
+                new ConfirmAllCommand.RoleItem("A0001", "FEMALE1", "마지막 입력")));
+
+        service.confirmAll(cmd);
+
+        // 사용자당 1건, 마지막 항목 적용 (CASE는 처음 일치한 WHEN을 쓰므로 중복이 남으면 첫 입력이 적용됨)
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<SelectedDate>> rolesCaptor = ArgumentCaptor.forClass(List.class);
+        verify(selectedDateMapper).updateRolesAndConfirmationByDate(eq(DATE), rolesCaptor.capture(), eq("Y"));
+        List<SelectedDate> roles = rolesCaptor.getValue();
+        assertThat(roles).extracting(SelectedDate::getUserId).containsExactly("A0001", "A0002");
+        assertThat(roles).extracting(SelectedDate::getRole).containsExactly("FEMALE1", "DOOR");
+        assertThat(roles.get(0).getRemarks()).isEqualTo("마지막 입력");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<String>> refreshed = ArgumentCaptor.forClass(Collection.class);
+        verify(userMapper).refreshLatestRoles(refreshed.capture());
+        assertThat(refreshed.getValue()).containsExactly("A0001", "A0002");
+
+        // 실제 SQL: role/remarks CASE 각각 사용자 수만큼 WHEN
+        MapperSql.Rendered rendered = MapperSql.render(
+                "com.showflix.api.schedule.mapper.SelectedDateMapper.updateRolesAndConfirmationByDate",
+                Map.of("date", DATE, "roles", roles, "confirmed", "Y"));
+        assertThat(rendered.sql().split("WHEN", -1)).hasSize(4 + 1);
+        assertThat(rendered.parameters()).contains("FEMALE1").doesNotContain("MALE1");
+    }
+
+    /** 매퍼 호출 1회 = SQL 문장 1건 */
+    private int statements() {
+        return Stream.of(timeSlotMapper, selectedDateMapper, userMapper)
+                .mapToInt(m -> mockingDetails(m).getInvocations().size())
+                .sum();
+    }
+
+    /**
+     * 배치 이전 confirmAll 문장 순서 (같은 저장소 Port 호출)
+     * - saveTimeSlots: 기존 조회 + 날짜 전체 삭제 + 슬롯 건별 INSERT
+     * - 역할/비고: 건별 UPDATE
+     * - confirmSchedule: 시간표/출근일 확정 UPDATE 2건
+     */
+    private void legacyConfirmAll(ConfirmAllCommand cmd) {
+        String date = cmd.date();
+        if (!cmd.slots().isEmpty()) {
+            timeSlotRepository.findByScheduleDate(date);
+            timeSlotRepository.deleteByScheduleDate(date);
+            for (ConfirmAllCommand.SlotItem item : cmd.slots()) {
+                ScheduleTimeSlot slot = new ScheduleTimeSlot();
+                slot.setScheduleDate(date);
+                slot.setTimeSlot(item.timeSlot());
+                slot.setTheme(item.theme());
+                slot.setPerformer(item.performer());
+                slot.setConfirmed("N");
+                timeSlotRepository.save(slot);
+            }
+        }
+        for (ConfirmAllCommand.RoleItem role : cmd.roles()) {
+            selectedDateRepository.updateRoleByDateAndUserId(date, role.userId(), role.role(), role.remarks());
+        }
+        timeSlotRepository.updateConfirmationByDate(date, "Y");
+        selectedDateRepository.updateConfirmationByDate(date, "Y");
+    }
+
+    private static ConfirmAllCommand command(int slots, int roles) {
+        List<ConfirmAllCommand.SlotItem> slotItems = new ArrayList<>(slots);
+        for (int i = 0; i < slots; i++) {
+            slotItems.add(new ConfirmAllCommand.SlotItem(
+                    String.format("%02d:%02d", 10 + i / 60, i % 60), "테마" + (i % 4), "배우" + i));
+        }
+        List<ConfirmAllCommand.RoleItem> roleItems = new ArrayList<>(roles);
+        for (int i = 0; i < roles; i++) {
+            roleItems.add(new ConfirmAllCommand.RoleItem(String.format("A%04d", i), "DOOR", null));
+        }
+        return new ConfirmAllCommand(DATE, slotItems, roleItems);
+    }
+}
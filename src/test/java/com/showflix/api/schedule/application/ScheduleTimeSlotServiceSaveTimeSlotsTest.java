@@ -0,0 +1,128 @@
+package com.showflix.api.schedule.application;
+
+import com.showflix.api.auth.domain.UserRepository;
+import com.showflix.api.common.MonthVersions;
+import com.showflix.api.schedule.application.command.SaveTimeSlotCommand;
+import com.showflix.api.schedule.application.event.CalendarChangeEvent;
+import com.showflix.api.schedule.domain.ScheduleTimeSlot;
+import com.showflix.api.schedule.domain.SelectedDateRepository;
+import com.showflix.api.schedule.infrastructure.ScheduleTimeSlotMyBatisRepository;
+import com.showflix.api.schedule.mapper.ScheduleTimeSlotMapper;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * saveTimeSlots 변경분 반영 - 기존 슬롯과 비교해 필요한 문장만 실행
+ */
+class ScheduleTimeSlotServiceSaveTimeSlotsTest {
+
+    private static final int CHUNK_SIZE = 200;
+    private static final String DATE = "2026-03-14";
+
+    private final ScheduleTimeSlotMapper mapper = Mockito.mock(ScheduleTimeSlotMapper.class);
+    private final List<Object> events = new ArrayList<>();
+    private final ScheduleTimeSlotService service = new ScheduleTimeSlotService(
+            new ScheduleTimeSlotMyBatisRepository(mapper, CHUNK_SIZE),
+            Mockito.mock(SelectedDateRepository.class),
+            Mockito.mock(UserRepository.class),
+            new MonthVersions(),
+            events::add);
+
+    @Test
+    void unchangedRequestOnlySelects() {
+        existing(slot("14:00", "테마A", "배우1", "Y"), slot("16:00", "테마B", "배우2", "N"));
+
+        service.saveTimeSlots(List.of(
+                command("14:00", "테마A", "배우1"),
+                command("16:00", "테마B", "배우2")));
+
+        verify(mapper).findByScheduleDate(DATE);
+        verifyNoMoreInteractions(mapper);
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    void themeOnlyChangeUpsertsOneSlotAndKeepsConfirmed() {
+        existing(slot("14:00", "테마A", "배우1", "Y"), slot("16:00", "테마B", "배우2", "N"));
+
+        service.saveTimeSlots(List.of(
+                command("14:00", "테마C", "배우1"),
+                command("16:00", "테마B", "배우2")));
+
+        verify(mapper).findByScheduleDate(DATE);
+        List<ScheduleTimeSlot> upserted = upserted();
+        verifyNoMoreInteractions(mapper);
+        assertThat(upserted).singleElement().satisfies(s -> {
+            assertThat(s.getTimeSlot()).isEqualTo("14:00");
+            assertThat(s.getTheme()).isEqualTo("테마C");
+            assertThat(s.getConfirmed()).isEqualTo("Y");
+        });
+        assertThat(events).singleElement()
+                .isInstanceOfSatisfying(CalendarChangeEvent.class, e -> assertThat(e.slots()).hasSize(2));
+    }
+
+    @Test
+    void droppedSlotRunsOneDelete() {
+        existing(slot("14:00", "테마A", "배우1", "N"), slot("16:00", "테마B", "배우2", "N"));
+
+        service.saveTimeSlots(List.of(command("14:00", "테마A", "배우1")));
+
+        verify(mapper).findByScheduleDate(DATE);
+        verify(mapper).deleteByScheduleDateExcept(DATE, List.of("14:00"));
+        verifyNoMoreInteractions(mapper);
+        assertThat(events).hasSize(1);
+    }
+
+    @Test
+    void duplicateTimeKeepsLastItem() {
+        existing();
+
+        service.saveTimeSlots(List.of(
+                command("14:00", "테마A", "배우1"),
+                command("16:00", "테마B", "배우2"),
+                command("14:00", "테마C", "배우3")));
+
+        verify(mapper).findByScheduleDate(DATE);
+        List<ScheduleTimeSlot> upserted = upserted();
+        verifyNoMoreInteractions(mapper);
+        assertThat(upserted).extracting(ScheduleTimeSlot::getTimeSlot).containsExactly("14:00", "16:00");
+        assertThat(upserted.get(0).getTheme()).isEqualTo("테마C");
+        assertThat(upserted.get(0).getPerformer()).isEqualTo("배우3");
+        assertThat(upserted).extracting(ScheduleTimeSlot::getConfirmed).containsOnly("N");
+    }
+
+    private void existing(ScheduleTimeSlot... slots) {
+        when(mapper.findByScheduleDate(DATE)).thenReturn(List.of(slots));
+    }
+
+    /** upsertAll 1회 호출 확인 후 기록된 슬롯 반환 */
+    private List<ScheduleTimeSlot> upserted() {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ScheduleTimeSlot>> captor = ArgumentCaptor.forClass(List.class);
+        verify(mapper).upsertAll(captor.capture());
+        return captor.getValue();
+    }
+
+    private static SaveTimeSlotCommand command(String timeSlot, String theme, String performer) {
+        return new SaveTimeSlotCommand(DATE, timeSlot, theme, performer);
+    }
+
+    private static ScheduleTimeSlot slot(String timeSlot, String theme, String performer, String confirmed) {
+        ScheduleTimeSlot slot = new ScheduleTimeSlot();
+        slot.setScheduleDate(DATE);
+        slot.setTimeSlot(timeSlot);
+        slot.setTheme(theme);
+        slot.setPerformer(performer);
+        slot.setConfirmed(confirmed);
+        return slot;
+    }
+}
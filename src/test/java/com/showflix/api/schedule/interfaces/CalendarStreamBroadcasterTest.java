@@ -0,0 +1,193 @@
+package com.showflix.api.schedule.interfaces;
+
+import com.showflix.api.schedule.application.SelectedDateService;
+import com.showflix.api.schedule.application.event.CalendarChangeEvent;
+import com.showflix.api.schedule.domain.ScheduleTimeSlot;
+import com.showflix.api.schedule.domain.SelectedDate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 달력 SSE 브로드캐스터 - 노출 규칙, 버퍼 포화 시 RESYNC, 포화 지속 시 구독 해제
+ */
+class CalendarStreamBroadcasterTest {
+
+    private static final String DATE = "2026-03-14";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private CalendarStreamBroadcaster broadcaster;
+
+    @AfterEach
+    void tearDown() {
+        if (broadcaster != null) broadcaster.shutdown();
+    }
+
+    @Test
+    void crewNeverSeesOtherUsersUnconfirmedChanges() throws Exception {
+        broadcaster = broadcaster(16);
+        RecordingEmitter crew = subscribe("A0001", false);
+        RecordingEmitter owner = subscribe("A0002", false);
+        RecordingEmitter admin = subscribe("W0001", true);
+
+        broadcaster.onCalendarChange(CalendarChangeEvent.userAdded(entry("A0002", "N"), null));
+        broadcaster.onCalendarChange(CalendarChangeEvent.userRemoved(DATE, "A0002", "N"));
+        broadcaster.onCalendarChange(CalendarChangeEvent.roleChanged(DATE, "A0002", "MALE1", null, "N"));
+        // 확정 건을 다시 추가(→ 미확정) - 확정 건을 보던 사용자에게는 삭제로 전달
+        broadcaster.onCalendarChange(CalendarChangeEvent.userAdded(entry("A0002", "N"), "Y"));
+
+        assertThat(next(crew, 2)).containsExactly("READY", "USER_REMOVED");
+        assertThat(next(owner, 5)).containsExactly("READY", "USER_ADDED", "USER_REMOVED", "ROLE_CHANGED", "USER_ADDED");
+        assertThat(next(admin, 5)).containsExactly("READY", "USER_ADDED", "USER_REMOVED", "ROLE_CHANGED", "USER_ADDED");
+        assertThat(crew.events).isEmpty();
+    }
+
+    @Test
+    void timeSlotsGoToAdminsOnly() throws Exception {
+        broadcaster = broadcaster(16);
+        RecordingEmitter crew = subscribe("A0001", false);
+        RecordingEmitter admin = subscribe("W0001", true);
+
+        broadcaster.onCalendarChange(CalendarChangeEvent.timeSlotsSaved(DATE, List.of(slot())));
+        // 모두에게 전달되는 이벤트 - 앞선 이벤트 처리 완료 확인용
+        broadcaster.onCalendarChange(CalendarChangeEvent.userRemoved(DATE, "A0002", "Y"));
+
+        assertThat(next(crew, 2)).containsExactly("READY", "USER_REMOVED");
+        assertThat(next(admin, 3)).containsExactly("READY", "TIME_SLOTS_SAVED", "USER_REMOVED");
+    }
+
+    @Test
+    void overflowReplacesBufferWithSingleResync() throws Exception {
+        broadcaster = broadcaster(2);
+        RecordingEmitter client = subscribeBlocked("A0001");
+
+        // READY 전송 중 버퍼 2칸 + 1건 → 넘침
+        for (int i = 0; i < 3; i++) {
+            broadcaster.onCalendarChange(CalendarChangeEvent.userRemoved(DATE, "A0002", "Y"));
+        }
+        client.gate.countDown();
+
+        assertThat(next(client, 2)).containsExactly("READY", "RESYNC");
+        // RESYNC 전송 후에는 다시 정상 전달
+        broadcaster.onCalendarChange(CalendarChangeEvent.userRemoved(DATE, "A0002", "Y"));
+        assertThat(next(client, 1)).containsExactly("USER_REMOVED");
+        assertThat(meterRegistry.get("showflix.calendar_stream.overflow").counter().count()).isEqualTo(1);
+        assertThat(client.completed.getCount()).isEqualTo(1);
+    }
+
+    @Test
+    void secondOverflowWhileResyncPendingDropsClient() throws Exception {
+        broadcaster = broadcaster(2);
+        RecordingEmitter client = subscribeBlocked("A0001");
+
+        // 1차 넘침 → [RESYNC], 1건 추가 → [RESYNC, USER_REMOVED], 2차 넘침 → 구독 해제
+        for (int i = 0; i < 5; i++) {
+            broadcaster.onCalendarChange(CalendarChangeEvent.userRemoved(DATE, "A0002", "Y"));
+        }
+        assertThat(meterRegistry.get("showflix.calendar_stream.clients").gauge().value()).isZero();
+        client.gate.countDown();
+
+        assertThat(client.completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(next(client, 1)).containsExactly("READY");
+        assertThat(client.events).isEmpty();
+        assertThat(meterRegistry.get("showflix.calendar_stream.dropped").counter().count()).isEqualTo(1);
+    }
+
+    private CalendarStreamBroadcaster broadcaster(int bufferSize) {
+        // heartbeat는 테스트 중 발생하지 않도록 길게
+        return new CalendarStreamBroadcaster(Mockito.mock(SelectedDateService.class), meterRegistry,
+                bufferSize, Duration.ofHours(1), Duration.ofMinutes(30), 1, Duration.ZERO);
+    }
+
+    private RecordingEmitter subscribe(String userId, boolean admin) {
+        RecordingEmitter emitter = new RecordingEmitter();
+        emitter.gate.countDown();
+        broadcaster.subscribe(emitter, userId, admin);
+        return emitter;
+    }
+
+    /** READY 전송에서 멈춘 클라이언트 (gate 해제 전까지 전송 스레드 점유) */
+    private RecordingEmitter subscribeBlocked(String userId) throws InterruptedException {
+        RecordingEmitter emitter = new RecordingEmitter();
+        broadcaster.subscribe(emitter, userId, false);
+        assertThat(emitter.sending.await(5, TimeUnit.SECONDS)).isTrue();
+        return emitter;
+    }
+
+    private static List<String> next(RecordingEmitter emitter, int count) throws InterruptedException {
+        List<String> names = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String name = emitter.events.poll(5, TimeUnit.SECONDS);
+            assertThat(name).as("%d번째 이벤트", i + 1).isNotNull();
+            names.add(name);
+        }
+        return names;
+    }
+
+    private static SelectedDate entry(String userId, String confirmed) {
+        SelectedDate sd = new SelectedDate();
+        sd.setDate(DATE);
+        sd.setUserId(userId);
+        sd.setUserName(userId);
+        sd.setRole("");
+        sd.setConfirmed(confirmed);
+        return sd;
+    }
+
+    private static ScheduleTimeSlot slot() {
+        ScheduleTimeSlot slot = new ScheduleTimeSlot();
+        slot.setScheduleDate(DATE);
+        slot.setTimeSlot("14:00");
+        slot.setConfirmed("N");
+        return slot;
+    }
+
+    /** 전송된 이벤트 이름을 기록하는 emitter (heartbeat 주석은 제외) */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private static final Pattern EVENT_NAME = Pattern.compile("event:(\\S+)");
+
+        final BlockingQueue<String> events = new LinkedBlockingQueue<>();
+        final CountDownLatch gate = new CountDownLatch(1);
+        final CountDownLatch sending = new CountDownLatch(1);
+        final CountDownLatch completed = new CountDownLatch(1);
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sending.countDown();
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            StringBuilder text = new StringBuilder();
+            for (ResponseBodyEmitter.DataWithMediaType part : builder.build()) {
+                if (part.getData() instanceof String s) text.append(s);
+            }
+            Matcher m = EVENT_NAME.matcher(text);
+            if (m.find()) events.add(m.group(1));
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+    }
+}
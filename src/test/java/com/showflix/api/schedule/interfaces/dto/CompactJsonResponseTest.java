@@ -0,0 +1,213 @@
+package com.showflix.api.schedule.interfaces.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.showflix.api.auth.domain.User;
+import com.showflix.api.auth.domain.UserDirectory;
+import com.showflix.api.auth.domain.UserRepository;
+import com.showflix.api.common.MonthVersions;
+import com.showflix.api.common.excel.ExcelExportEngine;
+import com.showflix.api.common.web.CompactJson;
+import com.showflix.api.schedule.application.ScheduleSummaryMonthCache;
+import com.showflix.api.schedule.application.ScheduleSummaryService;
+import com.showflix.api.schedule.application.VoucherTipService;
+import com.showflix.api.schedule.domain.ScheduleSummary;
+import com.showflix.api.schedule.domain.ScheduleSummaryRepository;
+import com.showflix.api.schedule.domain.SelectedDate;
+import com.showflix.api.schedule.domain.SelectedDateRepository;
+import com.showflix.api.schedule.domain.VoucherTip;
+import com.showflix.api.schedule.domain.VoucherTipRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * compact 응답 직렬화 - 기본 JSON(MonthResult)과 같은 셀 값이 인덱스 배열로 기록되는지 확인
+ */
+class CompactJsonResponseTest {
+
+    private static final int YEAR = 2026;
+    private static final int MONTH = 4;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final UserRepository userRepository = Mockito.mock(UserRepository.class);
+
+    CompactJsonResponseTest() {
+        when(userRepository.directory()).thenReturn(UserDirectory.of(List.of(
+                user("S0001", "김스텝", "STAFF", null),
+                user("A0001", "홍길동", "ACTOR", "MALE1"),
+                user("A0002", "이몽룡", "ACTOR", "DOOR"))));
+    }
+
+    @Test
+    void scheduleSummaryMatchesMonthResult() throws Exception {
+        ScheduleSummaryRepository repository = Mockito.mock(ScheduleSummaryRepository.class);
+        when(repository.findByMonth(anyString(), anyString())).thenReturn(List.of(
+                summary("A0001", "2026-04-01", "8", null),
+                summary("A0002", "2026-04-01", "0", null),          // 미출근
+                summary("S0001", "2026-04-30", "5.5", null),
+                summary("X9999", "2026-04-02", "8", null),          // 사용자 목록에 없음
+                summary("__remarks__", "2026-04-03", "0", "이전 특이사항"),
+                summary("__remarks_STAFF__", "2026-04-03", "0", "스탭 특이사항"),
+                summary("__remarks__", "2026-04-04", "0", "이전 특이사항만"),
+                summary("__remarks_ACTOR__", "2026-04-05", "0", "배우 특이사항")));
+        ScheduleSummaryService service = new ScheduleSummaryService(repository, userRepository,
+                new ScheduleSummaryMonthCache(0, Duration.ZERO), new MonthVersions());
+
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(
+                new CompactScheduleSummaryMonthResponse(service.getMonthRows(YEAR, MONTH))));
+        ScheduleSummaryService.MonthResult expected = service.getMonthData(YEAR, MONTH);
+
+        assertThat(json.get("year").asInt()).isEqualTo(YEAR);
+        assertThat(json.get("month").asInt()).isEqualTo(MONTH);
+        assertThat(json.get("daysInMonth").asInt()).isEqualTo(30);
+        assertThat(json.get("staffUsers").toString()).isEqualTo("[[\"S0001\",\"김스텝\"]]");
+        assertThat(json.get("actorUsers").toString()).isEqualTo("[[\"A0002\",\"이몽룡\"],[\"A0001\",\"홍길동\"]]");
+
+        // hours: staffUsers, actorUsers 순서의 사용자별 일자 배열
+        List<ScheduleSummaryService.UserInfo> users = new ArrayList<>(expected.staffUsers());
+        users.addAll(expected.actorUsers());
+        assertThat(json.get("hours")).hasSize(users.size());
+        for (int u = 0; u < users.size(); u++) {
+            Map<String, String> cells = expected.data().getOrDefault(users.get(u).userId(), Map.of());
+            JsonNode row = json.get("hours").get(u);
+            assertThat(row).hasSize(30);
+            for (int d = 0; d < 30; d++) {
+                assertThat(text(row.get(d))).isEqualTo(cells.get(date(d + 1)));
+            }
+        }
+        for (int d = 0; d < 30; d++) {
+            assertThat(text(json.get("staffRemarks").get(d))).isEqualTo(expected.staffRemarks().get(date(d + 1)));
+            assertThat(text(json.get("actorRemarks").get(d))).isEqualTo(expected.actorRemarks().get(date(d + 1)));
+        }
+        assertThat(json.get("staffRemarks").get(2).asText()).isEqualTo("스탭 특이사항");
+        assertThat(json.get("staffRemarks").get(3).asText()).isEqualTo("이전 특이사항만");
+    }
+
+    @Test
+    void voucherTipMatchesMonthResult() throws Exception {
+        VoucherTipRepository repository = Mockito.mock(VoucherTipRepository.class);
+        when(repository.findByMonth(anyString(), anyString())).thenReturn(List.of(
+                voucherTip("A0001", "2026-04-01", 2, 0),
+                voucherTip("A0002", "2026-04-01", 0, 10000),
+                voucherTip("A0001", "2026-04-30", 1, 20000),
+                voucherTip("X9999", "2026-04-02", 3, 30000)));       // 배우 목록에 없음
+        VoucherTipService service = new VoucherTipService(Mockito.mock(SelectedDateRepository.class), repository,
+                userRepository, Mockito.mock(ExcelExportEngine.class), new MonthVersions());
+
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(
+                new CompactVoucherTipMonthResponse(service.getMonthRows(YEAR, MONTH))));
+        VoucherTipService.MonthResult expected = service.getMonthData(YEAR, MONTH);
+
+        assertThat(json.get("daysInMonth").asInt()).isEqualTo(30);
+        assertThat(json.get("dates")).hasSize(30);
+        for (int d = 0; d < 30; d++) {
+            assertThat(json.get("dates").get(d).asText()).isEqualTo(expected.dates().get(d));
+        }
+        assertThat(json.get("actors").toString())
+                .isEqualTo("[[\"A0002\",\"이몽룡\",\"DOOR\"],[\"A0001\",\"홍길동\",\"MALE1\"]]");
+
+        // voucher/tip: dates 순서의 날짜별 actors 순서 배열 (값 없음 = 0)
+        for (int d = 0; d < 30; d++) {
+            Map<String, VoucherTipService.VoucherTipCell> cells =
+                    expected.data().getOrDefault(expected.dates().get(d), Map.of());
+            for (int a = 0; a < expected.actors().size(); a++) {
+                VoucherTipService.VoucherTipCell cell = cells.get(expected.actors().get(a).userId());
+                assertThat(json.get("voucher").get(d).get(a).asInt()).isEqualTo(cell == null ? 0 : cell.voucher());
+                assertThat(json.get("tip").get(d).get(a).asInt()).isEqualTo(cell == null ? 0 : cell.tip());
+            }
+        }
+        assertThat(json.get("voucher").get(29).toString()).isEqualTo("[0,1]");
+        assertThat(json.get("tip").get(0).toString()).isEqualTo("[10000,0]");
+    }
+
+    @Test
+    void monthDataIndexesRepeatedDatesAndUsers() throws Exception {
+        List<SelectedDate> entries = List.of(
+                selected("2026-04-01", "A0001", "홍길동", "MALE1", "Y", null),
+                selected("2026-04-01", "A0002", "이몽룡", null, "N", "지각"),
+                selected("2026-04-02", "A0001", "홍길동", "DOOR", "N", null));
+
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(
+                new CompactMonthDataResponse(true, entries)));
+
+        assertThat(json.get("isAdmin").asBoolean()).isTrue();
+        assertThat(json.get("dates").toString()).isEqualTo("[\"2026-04-01\",\"2026-04-02\"]");
+        assertThat(json.get("users").toString())
+                .isEqualTo("[[\"A0001\",\"홍길동\",\"ACTOR\"],[\"A0002\",\"이몽룡\",\"ACTOR\"]]");
+        assertThat(json.get("date").toString()).isEqualTo("[0,0,1]");
+        assertThat(json.get("user").toString()).isEqualTo("[0,1,0]");
+        assertThat(json.get("openHope").toString()).isEqualTo("[0,0,0]");
+        assertThat(json.get("role").toString()).isEqualTo("[\"MALE1\",null,\"DOOR\"]");
+        assertThat(json.get("confirmed").toString()).isEqualTo("[1,0,0]");
+        assertThat(json.get("remarks").toString()).isEqualTo("[null,\"지각\",null]");
+    }
+
+    @Test
+    void etagDiffersByFormat() {
+        ScheduleSummaryService service = new ScheduleSummaryService(Mockito.mock(ScheduleSummaryRepository.class),
+                userRepository, new ScheduleSummaryMonthCache(0, Duration.ZERO), new MonthVersions());
+
+        String json = service.monthETag(YEAR, MONTH, CompactJson.variant(null));
+        String compact = service.monthETag(YEAR, MONTH, CompactJson.variant("compact"));
+
+        assertThat(compact).isNotEqualTo(json).endsWith("-compact\"");
+        assertThat(service.monthETag(YEAR, MONTH, CompactJson.variant("COMPACT"))).isEqualTo(compact);
+    }
+
+    private static String date(int day) {
+        return String.format("%04d-%02d-%02d", YEAR, MONTH, day);
+    }
+
+    private static String text(JsonNode node) {
+        return node.isNull() ? null : node.asText();
+    }
+
+    private static User user(String userid, String username, String accountType, String role) {
+        User u = new User();
+        u.setUserid(userid);
+        u.setUsername(username);
+        u.setAccountType(accountType);
+        u.setRole(role);
+        return u;
+    }
+
+    private static ScheduleSummary summary(String userId, String date, String hours, String remarks) {
+        ScheduleSummary s = new ScheduleSummary();
+        s.setUserId(userId);
+        s.setDate(date);
+        s.setHours(hours);
+        s.setRemarks(remarks);
+        return s;
+    }
+
+    private static VoucherTip voucherTip(String userId, String date, int voucher, int tip) {
+        VoucherTip vt = new VoucherTip();
+        vt.setUserId(userId);
+        vt.setDate(date);
+        vt.setVoucher(voucher);
+        vt.setTip(tip);
+        return vt;
+    }
+
+    private static SelectedDate selected(String date, String userId, String userName, String role,
+                                         String confirmed, String remarks) {
+        SelectedDate sd = new SelectedDate();
+        sd.setDate(date);
+        sd.setUserId(userId);
+        sd.setUserName(userName);
+        sd.setRole(role);
+        sd.setConfirmed(confirmed);
+        sd.setRemarks(remarks);
+        sd.setAccountType("ACTOR");
+        return sd;
+    }
+}
@@ -0,0 +1,63 @@
+package com.showflix.api.support;
+
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.session.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 테스트용 매퍼 XML SQL 렌더링 - DB/스프링 컨텍스트 없이 운영과 같은 XML에서 실제 SQL과 바인딩 값을 얻음
+ * (application.properties의 mybatis.* 설정과 동일하게 구성)
+ */
+public final class MapperSql {
+
+    private static final Configuration CONFIGURATION = load();
+
+    /** 렌더링 결과: ? 자리표시자 SQL + 순서대로의 바인딩 값 */
+    public record Rendered(String sql, List<Object> parameters) {}
+
+    private MapperSql() {}
+
+    /**
+     * @param statementId namespace.id (예: com.showflix.api.schedule.mapper.ScheduleMapper.findByDateRange)
+     */
+    public static Rendered render(String statementId, Map<String, Object> params) {
+        BoundSql bound = CONFIGURATION.getMappedStatement(statementId).getBoundSql(params);
+        List<Object> values = new ArrayList<>();
+        for (ParameterMapping mapping : bound.getParameterMappings()) {
+            String property = mapping.getProperty();
+            values.add(bound.hasAdditionalParameter(property)
+                    ? bound.getAdditionalParameter(property)
+                    : CONFIGURATION.newMetaObject(params).getValue(property));
+        }
+        return new Rendered(bound.getSql(), values);
+    }
+
+    private static Configuration load() {
+        Configuration configuration = new Configuration();
+        configuration.setMapUnderscoreToCamelCase(true);
+        configuration.getTypeHandlerRegistry().register("com.showflix.api.common.mybatis");
+        try {
+            Resource[] mappers = new PathMatchingResourcePatternResolver()
+                    .getResources("classpath:mybatis/mapper/*.xml");
+            for (Resource mapper : mappers) {
+                try (InputStream in = mapper.getInputStream()) {
+                    new XMLMapperBuilder(in, configuration, mapper.getURI().toString(),
+                            configuration.getSqlFragments()).parse();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return configuration;
+    }
+}